@@ -0,0 +1,65 @@
+package com.votex.blockchain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full audit ({@link Blockchain#isChainValid()}) against the incremental check on a chain
+ * with nothing new, at a few chain lengths. Blocks carry 50 vote transactions each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChainValidationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int chainLength;
+
+    private Blockchain blockchain;
+
+    @Setup
+    public void setUp() {
+        // Difficulty doesn't change validation cost, so skip the proof-of-work while building
+        blockchain = new Blockchain(0, 1);
+        for (int b = 1; b < chainLength; b++) {
+            List<String> transactions = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                transactions.add("vote:1|vote-" + b + "-" + i + "|voter-" + i + "|candidate-" + (i % 5) + "|election-2026|1793525415.0|");
+            }
+            blockchain.addBlock(transactions);
+        }
+        blockchain.verifyNewBlocks();
+    }
+
+    @TearDown
+    public void tearDown() {
+        blockchain.shutdown();
+    }
+
+    @Benchmark
+    public boolean isChainValid() {
+        return blockchain.isChainValid();
+    }
+
+    @Benchmark
+    public boolean verifyNewBlocks() {
+        return blockchain.verifyNewBlocks();
+    }
+}
@@ -0,0 +1,61 @@
+package com.votex.blockchain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded proof-of-work via {@link Block#mineBlock(int)}. Each invocation mines a
+ * fresh block, so the nonce search starts from scratch; expect roughly 16x per level.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MiningBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int difficulty;
+
+    private List<String> transactions;
+    private Block block;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUpTransactions() {
+        transactions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            transactions.add("vote:1|vote-" + i + "|voter-" + i + "|candidate-" + (i % 5) + "|election-2026|1793525415.0|");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpBlock() {
+        // A different previous hash every time so no two invocations share a solution
+        block = new Block();
+        block.setIndex(1);
+        block.setTransactions(transactions);
+        block.setPreviousHash("prev-" + round++);
+    }
+
+    @Benchmark
+    public String mineBlock() {
+        block.mineBlock(difficulty);
+        return block.getHash();
+    }
+}
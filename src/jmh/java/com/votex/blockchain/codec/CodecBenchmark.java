@@ -0,0 +1,66 @@
+package com.votex.blockchain.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.votex.model.Vote;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round-trips a 1000-vote batch through the binary codec and through Jackson JSON.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private List<Vote> votes;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        votes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Vote vote = new Vote(UUID.randomUUID().toString(), "candidate-" + (i % 5), "election-2026");
+            vote.setId(UUID.randomUUID().toString());
+            vote.setTimestamp(LocalDateTime.of(2026, 11, 3, 9, 0).plusNanos(random.nextInt(1_000_000_000)));
+            byte[] signature = new byte[256];
+            random.nextBytes(signature);
+            vote.setSignature(Base64.getEncoder().encodeToString(signature));
+            votes.add(vote);
+        }
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public List<Vote> binaryRoundTrip() {
+        return VoteCodec.decodeAll(VoteCodec.encodeAll(votes));
+    }
+
+    @Benchmark
+    public Vote[] jsonRoundTrip() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsBytes(votes), Vote[].class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.votex.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SHA-256 over a vote-sized string.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashUtilBenchmark {
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        input = "Vote{id='" + UUID.randomUUID() + "', voterId='" + UUID.randomUUID()
+                + "', candidateId='candidate-1', electionId='election-2026'}";
+    }
+
+    @Benchmark
+    public String applySha256() {
+        return HashUtil.applySha256(input);
+    }
+}
@@ -0,0 +1,54 @@
+package com.votex.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merkle root over a block's worth of vote transactions, with the default build (parallel
+ * above {@link MerkleTree#SEQUENTIAL_THRESHOLD} leaves) and forced onto a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MerkleBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int transactions;
+
+    private List<String> batch;
+
+    @Setup
+    public void setUp() {
+        batch = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            batch.add("vote:1|" + UUID.randomUUID() + "|voter-" + i + "|candidate-" + (i % 5) + "|election-2026|1793525415.0|");
+        }
+    }
+
+    @Benchmark
+    public String merkleRoot() {
+        return HashUtil.getMerkleRoot(batch);
+    }
+
+    @Benchmark
+    public byte[] merkleRootSequential() {
+        return MerkleTree.root(batch, Integer.MAX_VALUE);
+    }
+}
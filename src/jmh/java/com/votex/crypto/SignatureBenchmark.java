@@ -0,0 +1,61 @@
+package com.votex.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ballot sign/verify throughput per signature scheme; RSA_2048 is what {@link RSAUtil} uses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureBenchmark {
+
+    @Param({"RSA_2048", "ECDSA_P256"})
+    public SignatureScheme scheme;
+
+    private KeyPair keyPair;
+    private String ballot;
+    private String signature;
+
+    @Setup
+    public void setUp() throws Exception {
+        keyPair = scheme.generateKeyPair();
+        ballot = "Vote{id='null', voterId='voter-1', candidateId='candidate-1', electionId='election-2026'}";
+        signature = scheme.sign(ballot, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public String sign() throws Exception {
+        return scheme.sign(ballot, keyPair.getPrivate());
+    }
+
+    @Benchmark
+    public boolean verify() throws Exception {
+        return scheme.verify(ballot, signature, keyPair.getPublic());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 10)
+    public KeyPair generateKeyPair() throws Exception {
+        return scheme.generateKeyPair();
+    }
+}
@@ -0,0 +1,312 @@
+package com.votex.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.votex.BlockchainVotingApplication;
+import com.votex.blockchain.Blockchain;
+import com.votex.crypto.RSAUtil;
+import com.votex.crypto.SignatureScheme;
+import com.votex.model.Candidate;
+import com.votex.model.Election;
+import com.votex.model.Vote;
+import com.votex.model.Voter;
+import com.votex.repository.VoterRepository;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * End-to-end load run against the embedded application on H2. Boots the app on a random
+ * port, creates and starts an election with candidates through {@code /api/elections},
+ * registers voters with generated key pairs, then fires one signed ballot per voter at
+ * the vote endpoint from a fixed number of concurrent clients. Reports throughput, status
+ * counts and an HdrHistogram latency distribution (also written as {@code .hgrm}).
+ *
+ * <p>Options, all {@code --name=value}:
+ * <ul>
+ *   <li>{@code voters} ballots to cast, one per voter (default 2000)</li>
+ *   <li>{@code concurrency} clients sending in a closed loop (default 32)</li>
+ *   <li>{@code endpoint} {@code /api/votes}, {@code /api/votes/async} (default /api/votes)</li>
+ *   <li>{@code candidates} candidates on the ballot (default 5)</li>
+ *   <li>{@code scheme} voter key scheme, RSA_2048 or ECDSA_P256 (default RSA_2048)</li>
+ *   <li>{@code key-pairs} distinct key pairs shared round-robin by voters, since RSA key
+ *       generation would otherwise dominate setup; verification cost is unaffected (default 64)</li>
+ *   <li>{@code output} histogram file (default target/loadtest/latency.hgrm)</li>
+ * </ul>
+ * Any other {@code --spring.property=value} is passed to the application, e.g.
+ * {@code --blockchain.difficulty=3}.
+ *
+ * <p>Voters are written straight through {@link VoterRepository} because there is no
+ * voter registration endpoint. Signing happens before the timed phase, but the clients
+ * still share the JVM and CPUs with the application, so compare runs made on the same
+ * machine rather than reading the figures as absolute capacity.
+ */
+public class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, String> options;
+    private final List<String> applicationArgs;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    // Plain HTTP/1.1: the default would attempt an h2c upgrade on every new connection
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private String baseUrl;
+
+    LoadGenerator(Map<String, String> options, List<String> applicationArgs) {
+        this.options = options;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new TreeMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        applicationArgs.add("--server.port=0");
+        applicationArgs.add("--spring.jpa.show-sql=false");
+        applicationArgs.add("--logging.level.com.votex=INFO");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (name.contains(".")) {
+                applicationArgs.add(arg);
+            } else {
+                options.put(name, arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                BlockchainVotingApplication.class, LoadTestSecurity.class)
+                .run(applicationArgs.toArray(new String[0]));
+        try {
+            new LoadGenerator(options, applicationArgs).run(context);
+        } finally {
+            context.close();
+        }
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    void run(ConfigurableApplicationContext context) throws Exception {
+        int voterCount = intOption("voters", 2000);
+        int concurrency = intOption("concurrency", 32);
+        int candidateCount = intOption("candidates", 5);
+        int keyPairCount = Math.min(intOption("key-pairs", 64), voterCount);
+        String endpoint = option("endpoint", "/api/votes");
+        SignatureScheme scheme = SignatureScheme.valueOf(option("scheme", "RSA_2048"));
+        Path output = Paths.get(option("output", "target/loadtest/latency.hgrm"));
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port;
+
+        System.out.printf("Setting up: %d voters (%d %s key pairs), %d candidates%n",
+                voterCount, keyPairCount, scheme, candidateCount);
+        Election election = createElection(candidateCount);
+        List<KeyPair> keyPairs = generateKeyPairs(scheme, keyPairCount);
+        List<Vote> ballots = registerVotersAndSign(context.getBean(VoterRepository.class), election,
+                scheme, keyPairs, voterCount);
+
+        System.out.printf("Firing %d ballots at %s with %d clients%n", ballots.size(), endpoint, concurrency);
+        Result result = fire(ballots, endpoint, concurrency);
+
+        report(result, ballots.size(), concurrency, output);
+        awaitSealed(context.getBean(Blockchain.class), result.accepted.intValue());
+    }
+
+    private Election createElection(int candidateCount) throws Exception {
+        Election election = new Election("Load test " + LocalDateTime.now(), "Generated by LoadGenerator");
+        election.setStartDate(LocalDateTime.now());
+        election.setEndDate(LocalDateTime.now().plusDays(1));
+        election = send("POST", "/api/elections", election, Election.class, 201);
+
+        List<String> candidateIds = new ArrayList<>();
+        for (int i = 0; i < candidateCount; i++) {
+            Candidate candidate = new Candidate("Candidate " + (i + 1), "Load test candidate", election.getId());
+            candidateIds.add(send("POST", "/api/elections/" + election.getId() + "/candidates",
+                    candidate, Candidate.class, 201).getId());
+        }
+        election = send("PUT", "/api/elections/" + election.getId() + "/start", null, Election.class, 200);
+        election.setCandidateIds(candidateIds);
+        return election;
+    }
+
+    private static List<KeyPair> generateKeyPairs(SignatureScheme scheme, int count) {
+        return IntStream.range(0, count).parallel().mapToObj(i -> {
+            try {
+                return scheme.generateKeyPair();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).collect(Collectors.toList());
+    }
+
+    private static List<Vote> registerVotersAndSign(VoterRepository voterRepository, Election election,
+                                                    SignatureScheme scheme, List<KeyPair> keyPairs, int count) {
+        List<String> candidateIds = election.getCandidateIds();
+        List<Voter> voters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Voter voter = new Voter("load-voter-" + i, "Load Voter " + i, "load-voter-" + i + "@example.com");
+            voter.setVerified(true);
+            voter.setSignatureScheme(scheme);
+            voter.setPublicKey(RSAUtil.getPublicKeyString(keyPairs.get(i % keyPairs.size()).getPublic()));
+            voters.add(voter);
+        }
+        voterRepository.saveAll(voters);
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        return IntStream.range(0, count).parallel().mapToObj(i -> {
+            Vote vote = new Vote("load-voter-" + i, candidateIds.get(i % candidateIds.size()), election.getId());
+            vote.setTimestamp(now);
+            try {
+                vote.setSignature(scheme.sign(vote.toString(), keyPairs.get(i % keyPairs.size()).getPrivate()));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return vote;
+        }).collect(Collectors.toList());
+    }
+
+    private Result fire(List<Vote> ballots, String endpoint, int concurrency) throws Exception {
+        Result result = new Result();
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<Histogram>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            futures.add(clients.submit(() -> {
+                Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+                int i;
+                while ((i = next.getAndIncrement()) < ballots.size()) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(ballots.get(i))))
+                            .build();
+                    long sent = System.nanoTime();
+                    int status;
+                    try {
+                        status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (Exception e) {
+                        status = -1;
+                    }
+                    histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sent),
+                            HIGHEST_TRACKABLE_MICROS));
+                    result.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    if (status == 202) {
+                        result.accepted.increment();
+                    }
+                }
+                return histogram;
+            }));
+        }
+        for (Future<Histogram> future : futures) {
+            result.latency.add(future.get());
+        }
+        result.elapsedNanos = System.nanoTime() - start;
+        clients.shutdown();
+        return result;
+    }
+
+    private static void report(Result result, int ballots, int concurrency, Path output) throws Exception {
+        Histogram latency = result.latency;
+        double seconds = result.elapsedNanos / 1e9;
+        System.out.println();
+        System.out.printf("Ballots: %d in %.2f s with %d clients -> %.1f req/s%n",
+                ballots, seconds, concurrency, ballots / seconds);
+        System.out.printf("Status codes: %s%n", new TreeMap<>(result.statuses));
+        System.out.printf("Latency (ms): p50=%.2f p99=%.2f p999=%.2f max=%.2f%n",
+                latency.getValueAtPercentile(50) / 1000.0,
+                latency.getValueAtPercentile(99) / 1000.0,
+                latency.getValueAtPercentile(99.9) / 1000.0,
+                latency.getMaxValue() / 1000.0);
+        System.out.println();
+        latency.outputPercentileDistribution(System.out, 1000.0);
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (PrintStream out = new PrintStream(new FileOutputStream(output.toFile()))) {
+            latency.outputPercentileDistribution(out, 1000.0);
+        }
+        System.out.println("Histogram written to " + output.toAbsolutePath());
+    }
+
+    private static void awaitSealed(Blockchain blockchain, int accepted) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(2);
+        long onChain = 0;
+        while (System.currentTimeMillis() < deadline) {
+            onChain = blockchain.streamVotes().count();
+            if (onChain >= accepted) {
+                break;
+            }
+            Thread.sleep(200);
+        }
+        System.out.printf("On chain: %d of %d accepted votes in %d blocks%n",
+                onChain, accepted, blockchain.getChain().size() - 1);
+    }
+
+    private <T> T send(String method, String path, Object body, Class<T> type, int expectedStatus) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(method + " " + path + " returned " + response.statusCode()
+                    + ": " + new String(response.body()));
+        }
+        return objectMapper.readValue(response.body(), type);
+    }
+
+    private static final class Result {
+        final Histogram latency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final ConcurrentHashMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        final LongAdder accepted = new LongAdder();
+        long elapsedNanos;
+    }
+}
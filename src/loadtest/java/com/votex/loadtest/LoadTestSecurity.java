@@ -0,0 +1,26 @@
+package com.votex.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * Opens the API for the load run only. The application has no login mechanism yet, so
+ * every {@code /api/**} call would otherwise be refused. Deliberately not a
+ * {@code @Configuration}: it is registered explicitly by {@link LoadGenerator} and never
+ * picked up by component scanning.
+ */
+class LoadTestSecurity {
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+        http
+            .antMatcher("/api/**")
+            .csrf().disable()
+            .authorizeRequests().anyRequest().permitAll();
+        return http.build();
+    }
+}
@@ -1,11 +1,23 @@
 package com.votex.blockchain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.votex.crypto.HashUtil;
-import java.time.LocalDateTime;
+import com.votex.model.Vote;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 public class Block {
+    private static final Logger log = LoggerFactory.getLogger(Block.class);
+
+    // "-2147483648" is the longest decimal form of an int
+    static final int MAX_NONCE_DIGITS = 11;
+
     private int index;
     private long timestamp;
     private List<String> transactions;
@@ -13,6 +25,7 @@ public class Block {
     private String hash;
     private int nonce;
     private String merkleRoot;
+    private boolean merkleStale;
 
     public Block() {
         this.transactions = new ArrayList<>();
@@ -29,35 +42,130 @@ public class Block {
         this.previousHash = previousHash;
         this.merkleRoot = merkleRoot != null ? merkleRoot : "";
         this.nonce = nonce;
-        this.hash = calculateHash();
+        sealTransactions();
+        this.hash = calculateHash(nonce);
+    }
+
+    /**
+     * Rebuilds a block exactly as it was stored, without recomputing its Merkle root or hash.
+     * Used when reading blocks back from a {@link com.votex.blockchain.store.BlockStore}.
+     */
+    public static Block restore(int index, long timestamp, List<String> transactions, String previousHash,
+                                String merkleRoot, String hash, int nonce) {
+        Block block = new Block(index, timestamp, previousHash, merkleRoot, hash, nonce);
+        block.transactions = transactions;
+        return block;
     }
 
+    private Block(int index, long timestamp, String previousHash, String merkleRoot, String hash, int nonce) {
+        this.index = index;
+        this.timestamp = timestamp;
+        this.previousHash = previousHash;
+        this.merkleRoot = merkleRoot;
+        this.hash = hash;
+        this.nonce = nonce;
+    }
+
+    /**
+     * Recomputes the hash from scratch, including the Merkle root, so that it reflects
+     * the transactions as they are now. This is the verification path; mining relies on
+     * the root sealed by {@link #sealTransactions()} instead.
+     */
     public String calculateHash() {
         // Always update merkleRoot when calculating hash if we have transactions
         // This ensures the hash reflects the current state of transactions
         if (transactions != null && !transactions.isEmpty()) {
             merkleRoot = HashUtil.getMerkleRoot(transactions);
         }
-        
-        String dataToHash = index + timestamp + (merkleRoot != null ? merkleRoot : "") + 
-                          (previousHash != null ? previousHash : "") + nonce;
-        return HashUtil.applySha256(dataToHash);
+        return calculateHash(nonce);
+    }
+
+    /**
+     * Hashes the block header with the given nonce and the current merkleRoot,
+     * without touching any field. Safe to call from several mining threads at once.
+     */
+    public String calculateHash(int nonce) {
+        return new HeaderHasher(this).hash(nonce);
+    }
+
+    /**
+     * Computes the Merkle root once for the current transactions. Called whenever the
+     * transaction list is replaced; callers that mutate the list returned by
+     * {@link #getTransactions()} in place must call it again before mining.
+     */
+    public void sealTransactions() {
+        if (transactions != null && !transactions.isEmpty()) {
+            merkleRoot = HashUtil.getMerkleRoot(transactions);
+        }
+        merkleStale = false;
+    }
+
+    boolean isMerkleStale() {
+        return merkleStale;
+    }
+
+    /**
+     * UTF-8 bytes of everything the hash covers except the nonce, which always comes last.
+     */
+    byte[] headerPrefix() {
+        String prefix = (index + timestamp) + (merkleRoot != null ? merkleRoot : "") +
+                (previousHash != null ? previousHash : "");
+        return prefix.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes {@code nonce} in decimal ASCII at {@code offset}, returning the end position.
+     */
+    static int writeNonce(int nonce, byte[] buffer, int offset) {
+        long value = nonce;
+        if (value < 0) {
+            buffer[offset++] = '-';
+            value = -value;
+        }
+        int end = offset + digitCount(value);
+        int position = end;
+        do {
+            buffer[--position] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        return end;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
     }
 
     public void mineBlock(int difficulty) {
-        merkleRoot = HashUtil.getMerkleRoot(transactions);
-        String target = new String(new char[difficulty]).replace('\0', '0');
-        
-        // Initialize hash if null
-        if (hash == null) {
-            hash = calculateHash();
+        if (merkleStale) {
+            sealTransactions();
+        }
+        if (!ParallelMiner.search(this, difficulty, nonce, 1, new AtomicBoolean(), new LongAdder())) {
+            throw new IllegalStateException("Nonce space exhausted at difficulty " + difficulty);
         }
-        
-        while(!hash.substring(0, difficulty).equals(target)) {
-            nonce++;
-            hash = calculateHash();
+        log.debug("Block mined! Hash: {}", hash);
+    }
+
+    /**
+     * The vote transactions in this block, parsed back into votes. Anything that is not
+     * a {@link VoteTransaction} is skipped. Left out of JSON, which already carries the
+     * transactions.
+     */
+    @JsonIgnore
+    public List<Vote> getVotes() {
+        List<Vote> votes = new ArrayList<>();
+        if (transactions != null) {
+            for (String transaction : transactions) {
+                if (VoteTransaction.isVote(transaction)) {
+                    votes.add(VoteTransaction.decode(transaction));
+                }
+            }
         }
-        System.out.println("Block mined! Hash: " + hash);
+        return votes;
     }
 
     public void addTransaction(String transaction) {
@@ -66,6 +174,7 @@ public class Block {
         }
         if ((previousHash != null && !previousHash.equals("0"))) {
             transactions.add(transaction);
+            merkleStale = true;
         }
     }
 
@@ -92,6 +201,7 @@ public class Block {
 
     public void setTransactions(List<String> transactions) {
         this.transactions = transactions;
+        sealTransactions();
     }
 
     public String getPreviousHash() {
@@ -0,0 +1,118 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seals pending votes into blocks, one block per batch rather than one per vote.
+ * A block is sealed as soon as {@code maxVotes} are pending or {@code maxWaitMillis}
+ * has passed since the oldest of them arrived, whichever comes first.
+ *
+ * <p>If sealing fails, the batch goes back into the pool and the worker retries after
+ * {@code maxWaitMillis}, so accepted votes are never dropped with the thread.
+ */
+@Component
+public class BlockAssembler {
+    private static final Logger log = LoggerFactory.getLogger(BlockAssembler.class);
+
+    private final Blockchain blockchain;
+    private final VotePool votePool;
+    private final int maxVotes;
+    private final long maxWaitMillis;
+    private volatile boolean running;
+    private Thread worker;
+
+    public BlockAssembler(Blockchain blockchain, VotePool votePool,
+                          @Value("${blockchain.batch.max-votes:500}") int maxVotes,
+                          @Value("${blockchain.batch.max-wait-ms:1000}") long maxWaitMillis) {
+        this.blockchain = blockchain;
+        this.votePool = votePool;
+        this.maxVotes = maxVotes;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "block-assembler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join();
+        }
+        // Whatever is still pending gets sealed rather than dropped
+        while (votePool.size() > 0) {
+            sealNextBatch(0);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                try {
+                    sealNextBatch(maxWaitMillis);
+                } catch (RuntimeException e) {
+                    log.error("Failed to seal a block, retrying in {} ms", maxWaitMillis, e);
+                    Thread.sleep(maxWaitMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Collects the next batch from the pool and seals it into a block.
+     * Returns the sealed block, or {@code null} if no votes arrived in time. If the block
+     * cannot be added, the batch is put back into the pool before the exception is rethrown.
+     */
+    public Block sealNextBatch(long waitMillis) throws InterruptedException {
+        List<Vote> batch = votePool.drain(maxVotes, waitMillis);
+        if (batch.isEmpty()) {
+            return null;
+        }
+
+        List<String> transactions = new ArrayList<>(batch.size());
+        Block block;
+        try {
+            for (Vote vote : batch) {
+                transactions.add(VoteTransaction.encode(vote));
+            }
+            block = blockchain.addBlock(transactions);
+        } catch (RuntimeException e) {
+            // A listener can fail after the block is appended; only an unsealed batch goes back
+            if (!transactions.isEmpty() && transactions.equals(blockchain.getLatestBlock().getTransactions())) {
+                votePool.confirm(batch);
+            } else {
+                votePool.requeue(batch);
+            }
+            throw e;
+        }
+
+        votePool.confirm(batch);
+        return block;
+    }
+
+    public int getMaxVotes() {
+        return maxVotes;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+}
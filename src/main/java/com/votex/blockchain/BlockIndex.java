@@ -0,0 +1,251 @@
+package com.votex.blockchain;
+
+import com.votex.crypto.HashUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point lookups into the chain: block hash to height, and vote ID to the block and
+ * position holding it. Both maps are {@link FixedKeyTable}s over the raw key bytes (the
+ * 32-byte digest, the 16-byte UUID), so memory stays at a few dozen bytes per block or
+ * vote with no per-entry objects.
+ *
+ * <p>New blocks are indexed as they are committed. Blocks already on the chain at startup
+ * are indexed on a background thread so that a restart is not held up; until that
+ * finishes, a lookup that misses falls back to scanning the blocks not yet indexed.
+ */
+@Component
+public class BlockIndex implements BlockListener {
+    private static final Logger log = LoggerFactory.getLogger(BlockIndex.class);
+
+    private final Blockchain blockchain;
+    private final FixedKeyTable hashes = new FixedKeyTable(4, 1024);
+    private final FixedKeyTable votes = new FixedKeyTable(2, 16 * 1024);
+    private final CountDownLatch backfilled = new CountDownLatch(1);
+    // Bumped by chainReset so a backfill of the old chain stops writing
+    private int generation;
+    private volatile int backfillEnd;
+
+    public BlockIndex(Blockchain blockchain) {
+        this.blockchain = blockchain;
+        List<Block> chain = blockchain.getChain();
+        int existing = chain.size();
+        blockchain.subscribe(this, existing);
+        backfillEnd = existing;
+        if (existing == 0) {
+            backfilled.countDown();
+            return;
+        }
+        Thread thread = new Thread(() -> backfill(chain, existing, 0), "block-index-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void backfill(List<Block> chain, int end, int forGeneration) {
+        long start = System.nanoTime();
+        try {
+            for (int height = 0; height < end; height++) {
+                Block block = chain.get(height);
+                synchronized (this) {
+                    if (generation != forGeneration) {
+                        return;
+                    }
+                    index(block);
+                }
+            }
+            synchronized (this) {
+                if (generation == forGeneration) {
+                    backfillEnd = 0;
+                }
+            }
+            log.info("Indexed {} blocks in {} ms", end, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            log.warn("Block index backfill failed; lookups will scan unindexed blocks", e);
+        } finally {
+            backfilled.countDown();
+        }
+    }
+
+    @Override
+    public synchronized void blockAppended(Block block) {
+        index(block);
+    }
+
+    @Override
+    public synchronized void chainReset() {
+        generation++;
+        hashes.clear();
+        votes.clear();
+        backfillEnd = 0;
+    }
+
+    private void index(Block block) {
+        hashes.put(hashKey(block.getHash()), block.getIndex());
+        List<String> transactions = block.getTransactions();
+        for (int position = 0; position < transactions.size(); position++) {
+            String voteId = VoteTransaction.idOf(transactions.get(position));
+            if (voteId != null) {
+                votes.put(voteKey(voteId), ((long) block.getIndex() << 32) | position);
+            }
+        }
+    }
+
+    /**
+     * The block at {@code height}, or empty if the chain is not that tall.
+     */
+    public Optional<Block> getBlock(int height) {
+        List<Block> chain = blockchain.getChain();
+        if (height < 0 || height >= chain.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(chain.get(height));
+    }
+
+    /**
+     * The block whose hash is {@code hash}, or empty if it is not on the chain.
+     */
+    public Optional<Block> getBlockByHash(String hash) {
+        if (hash == null) {
+            return Optional.empty();
+        }
+        List<Block> chain = blockchain.getChain();
+        long height = hashes.get(hashKey(hash));
+        if (height >= 0 && height < chain.size() && hash.equals(chain.get((int) height).getHash())) {
+            return Optional.of(chain.get((int) height));
+        }
+        int unindexed = Math.min(backfillEnd, chain.size());
+        for (int i = 0; i < unindexed; i++) {
+            if (hash.equals(chain.get(i).getHash())) {
+                return Optional.of(chain.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Where the vote with {@code voteId} sits on the chain, or empty if no committed
+     * block holds it.
+     */
+    public Optional<VoteLocation> findVote(String voteId) {
+        if (voteId == null) {
+            return Optional.empty();
+        }
+        List<Block> chain = blockchain.getChain();
+        long packed = votes.get(voteKey(voteId));
+        if (packed >= 0) {
+            VoteLocation location = new VoteLocation((int) (packed >>> 32), (int) packed);
+            if (holds(chain, location, voteId)) {
+                return Optional.of(location);
+            }
+        }
+        int unindexed = Math.min(backfillEnd, chain.size());
+        for (int height = unindexed - 1; height >= 0; height--) {
+            List<String> transactions = chain.get(height).getTransactions();
+            for (int position = 0; position < transactions.size(); position++) {
+                if (VoteTransaction.hasId(transactions.get(position), voteId)) {
+                    return Optional.of(new VoteLocation(height, position));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean holds(List<Block> chain, VoteLocation location, String voteId) {
+        if (location.getHeight() >= chain.size()) {
+            return false;
+        }
+        List<String> transactions = chain.get(location.getHeight()).getTransactions();
+        return location.getPosition() < transactions.size()
+                && VoteTransaction.hasId(transactions.get(location.getPosition()), voteId);
+    }
+
+    /**
+     * Whether the blocks present at startup have all been indexed.
+     */
+    public boolean isBackfilled() {
+        return backfilled.getCount() == 0;
+    }
+
+    /**
+     * Waits for the startup backfill to finish. Returns false on timeout.
+     */
+    public boolean awaitBackfill(long timeout, TimeUnit unit) throws InterruptedException {
+        return backfilled.await(timeout, unit);
+    }
+
+    int indexedBlocks() {
+        return hashes.size();
+    }
+
+    int indexedVotes() {
+        return votes.size();
+    }
+
+    /**
+     * A block hash as table key: the digest itself when it is 64 hex characters, otherwise
+     * the SHA-256 of the string. Lookups compare the real hash, so collisions only cost a miss.
+     */
+    private static long[] hashKey(String hash) {
+        byte[] digest;
+        try {
+            digest = hash.length() == 64 ? HashUtil.fromHex(hash) : null;
+        } catch (IllegalArgumentException e) {
+            digest = null;
+        }
+        if (digest == null) {
+            digest = HashUtil.sha256(hash.getBytes(StandardCharsets.UTF_8));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new long[] {buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong()};
+    }
+
+    /**
+     * A vote ID as table key: the UUID's bits when it is a canonical UUID, otherwise the
+     * first 16 bytes of its SHA-256.
+     */
+    private static long[] voteKey(String voteId) {
+        if (voteId.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(voteId);
+                if (uuid.toString().equals(voteId)) {
+                    return new long[] {uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()};
+                }
+            } catch (IllegalArgumentException e) {
+                // Not a UUID; hash it below
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(HashUtil.sha256(voteId.getBytes(StandardCharsets.UTF_8)));
+        return new long[] {buffer.getLong(), buffer.getLong()};
+    }
+
+    /**
+     * Height of the block holding a vote, and the vote's position among its transactions
+     * (which is also its leaf index in the block's Merkle tree).
+     */
+    public static final class VoteLocation {
+        private final int height;
+        private final int position;
+
+        public VoteLocation(int height, int position) {
+            this.height = height;
+            this.position = position;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+    }
+}
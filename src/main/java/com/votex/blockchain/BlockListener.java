@@ -0,0 +1,17 @@
+package com.votex.blockchain;
+
+/**
+ * Notified by {@link Blockchain} as blocks are committed. Callbacks run on the committing
+ * thread while the chain is locked, so they must be quick and must not call back into it.
+ */
+public interface BlockListener {
+
+    void blockAppended(Block block);
+
+    /**
+     * The chain was replaced wholesale; every block of the new chain is replayed through
+     * {@link #blockAppended(Block)} right after this call.
+     */
+    default void chainReset() {
+    }
+}
@@ -1,28 +1,101 @@
 package com.votex.blockchain;
 
+import com.votex.blockchain.store.BlockStore;
+import com.votex.blockchain.store.MemoryBlockStore;
 import com.votex.crypto.HashUtil;
 import com.votex.model.Vote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import javax.annotation.PreDestroy;
+
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Component
 public class Blockchain {
-    private List<Block> chain;
+    private volatile BlockStore store;
+    // Last committed block; only replaced under the chain lock, read without it
+    private volatile Block tip;
     private int difficulty;
+    private final ParallelMiner miner;
+    private final ChainAuditor auditor = new ChainAuditor();
+    private final List<BlockListener> listeners = new CopyOnWriteArrayList<>();
+    // Guards the watermark only, so audits never hold up block commits
+    private final Object verifyLock = new Object();
+    // Highest block index already checked; the genesis block is trusted by construction
+    private volatile int verifiedHeight;
+    private final Timer miningTimer;
+    private final Timer merkleTimer;
+    private final Timer commitTimer;
+    private final Counter noncesTried;
+    private final Counter commitConflicts;
+    // Hashes per second achieved while mining the most recent block
+    private volatile double hashRate;
 
     public Blockchain() {
-        this.chain = new ArrayList<>();
-        this.difficulty = 4;  // Initial mining difficulty
-        createGenesisBlock();
+        this(4);  // Initial mining difficulty
     }
 
     public Blockchain(int difficulty) {
-        this.chain = new ArrayList<>();
+        this(difficulty, 0);
+    }
+
+    public Blockchain(int difficulty, int miningThreads) {
+        this(difficulty, miningThreads, new MemoryBlockStore());
+    }
+
+    public Blockchain(int difficulty, int miningThreads, BlockStore store) {
+        this(difficulty, miningThreads, store, new SimpleMeterRegistry());
+    }
+
+    /**
+     * @param miningThreads number of nonce-search workers; 0 uses one per available core
+     * @param store where blocks are kept; a store that already holds blocks is resumed as is
+     * @param registry where mining, Merkle and commit timings and the chain height are published
+     */
+    @Autowired
+    public Blockchain(@Value("${blockchain.difficulty:4}") int difficulty,
+                      @Value("${blockchain.mining-threads:0}") int miningThreads,
+                      BlockStore store, MeterRegistry registry) {
+        this.store = store;
         this.difficulty = difficulty;
-        createGenesisBlock();
+        this.miner = new ParallelMiner(miningThreads > 0 ? miningThreads : Runtime.getRuntime().availableProcessors());
+        this.miningTimer = Timer.builder("votex.block.mining")
+                .description("Time to find a valid nonce for one block")
+                .register(registry);
+        this.merkleTimer = Timer.builder("votex.merkle.build")
+                .description("Time to compute a block's Merkle root")
+                .register(registry);
+        this.commitTimer = Timer.builder("votex.block.commit")
+                .description("Time to append a mined block and notify listeners, under the chain lock")
+                .register(registry);
+        this.noncesTried = Counter.builder("votex.block.nonces")
+                .description("Nonces hashed while mining")
+                .register(registry);
+        this.commitConflicts = Counter.builder("votex.block.commit.conflicts")
+                .description("Mined blocks that had to be re-mined because the tip moved")
+                .register(registry);
+        Gauge.builder("votex.block.hash.rate", this, Blockchain::getHashRate)
+                .description("Hashes per second while mining the most recent block")
+                .register(registry);
+        Gauge.builder("votex.chain.height", this, chain -> chain.getLatestBlock().getIndex())
+                .description("Index of the latest committed block")
+                .register(registry);
+        if (store.size() == 0) {
+            createGenesisBlock();
+        }
+        this.tip = store.get(store.size() - 1);
     }
 
     private void createGenesisBlock() {
@@ -33,66 +106,250 @@ public class Blockchain {
         genesisBlock.setNonce(0);
         genesisBlock.setHash(genesisBlock.calculateHash());
 
-        chain.add(genesisBlock);
+        store.append(genesisBlock);
     }
 
     public Block getLatestBlock() {
-        return chain.get(chain.size() - 1);
+        return tip;
     }
 
+    /**
+     * Mines {@code newBlock} on top of the current tip without holding the chain lock, then
+     * commits it only if the tip has not moved in the meantime. If another block got in
+     * first, the block is re-linked to the new tip and mined again. The lock is held just
+     * for the compare-and-append, so concurrent callers never wait on each other's mining.
+     */
     public void addBlock(Block newBlock) {
-        Block latestBlock = getLatestBlock();
-        newBlock.setIndex(latestBlock.getIndex() + 1);
-        newBlock.setPreviousHash(latestBlock.getHash());
-        newBlock.mineBlock(difficulty);
-        chain.add(newBlock);
+        while (true) {
+            Block parent = tip;
+            newBlock.setIndex(parent.getIndex() + 1);
+            newBlock.setPreviousHash(parent.getHash());
+            mineBlock(newBlock);
+            if (commitIfTip(parent, newBlock)) {
+                return;
+            }
+            commitConflicts.increment();
+        }
+    }
+
+    private synchronized boolean commitIfTip(Block parent, Block block) {
+        if (tip != parent) {
+            return false;
+        }
+        long start = System.nanoTime();
+        store.append(block);
+        tip = block;
+        for (BlockListener listener : listeners) {
+            listener.blockAppended(block);
+        }
+        commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return true;
     }
 
-    public void addBlock(List<String> transactions) {
+    /**
+     * Replays every block already on the chain to {@code listener}, then registers it for
+     * blocks committed afterwards. Both happen under the chain lock, so none is missed or
+     * delivered twice.
+     */
+    public void subscribe(BlockListener listener) {
+        subscribe(listener, 0);
+    }
+
+    /**
+     * Like {@link #subscribe(BlockListener)}, but replays only the blocks from
+     * {@code fromHeight} on, for a listener that already holds the state of the earlier
+     * ones, e.g. restored from a checkpoint.
+     */
+    public synchronized void subscribe(BlockListener listener, int fromHeight) {
+        for (int i = Math.max(fromHeight, 0); i < store.size(); i++) {
+            listener.blockAppended(store.get(i));
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Seals {@code transactions} into a new block and adds it to the chain.
+     * Returns the committed block.
+     */
+    public Block addBlock(List<String> transactions) {
         Block newBlock = new Block();
+        long start = System.nanoTime();
         newBlock.setTransactions(transactions);
+        merkleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         addBlock(newBlock);
+        return newBlock;
     }
 
     public void mineBlock(Block block) {
-        String target = new String(new char[difficulty]).replace('\0', '0');
-        while (!block.getHash().substring(0, difficulty).equals(target)) {
-            int nonce = block.getNonce() + 1;
-            block.setNonce(nonce);
-            block.setHash(block.calculateHash());
+        if (block.isMerkleStale()) {
+            long start = System.nanoTime();
+            block.sealTransactions();
+            merkleTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
+        long start = System.nanoTime();
+        long nonces = miner.mine(block, difficulty);
+        long elapsed = System.nanoTime() - start;
+        miningTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        noncesTried.increment(nonces);
+        hashRate = elapsed > 0 ? nonces * 1e9 / elapsed : 0;
+    }
+
+    public double getHashRate() {
+        return hashRate;
     }
 
+    /**
+     * Full audit: re-checks every block from genesis, then moves the verified-height
+     * watermark to wherever the chain proved valid.
+     */
     public boolean isChainValid() {
-        for (int i = 1; i < chain.size(); i++) {
-            Block currentBlock = chain.get(i);
-            Block previousBlock = chain.get(i - 1);
+        return auditChain().isValid();
+    }
 
-            // Verify current block's hash
-            if (!currentBlock.getHash().equals(currentBlock.calculateHash())) {
-                return false;
-            }
+    /**
+     * Full audit run in parallel over block ranges, reporting the first invalid block and timing.
+     * Audits the chain as of the call; blocks committed while it runs are left for the next check.
+     */
+    public ChainAuditResult auditChain() {
+        synchronized (verifyLock) {
+            BlockStore current = store;
+            ChainAuditResult result = auditor.audit(current.asList().subList(0, current.size()));
+            verifiedHeight = result.isValid() ? result.getBlocksChecked() - 1 : result.getFirstInvalidIndex() - 1;
+            return result;
+        }
+    }
 
-            // Verify link to previous block
-            if (!currentBlock.getPreviousHash().equals(previousBlock.getHash())) {
+    /**
+     * Checks only the blocks appended since the last successful verification. Blocks at or
+     * below the watermark are trusted as already checked; use {@link #isChainValid()} to
+     * audit them again.
+     */
+    public boolean verifyNewBlocks() {
+        synchronized (verifyLock) {
+            BlockStore current = store;
+            int height = current.size();
+            if (firstInvalidBlock(current, verifiedHeight + 1, height) >= 0) {
                 return false;
             }
-            
-            // Verify merkleRoot matches transactions (this catches transaction tampering)
-            String calculatedMerkleRoot = HashUtil.getMerkleRoot(currentBlock.getTransactions());
-            if (!calculatedMerkleRoot.equals(currentBlock.getMerkleRoot())) {
-                return false;
+            verifiedHeight = height - 1;
+            return true;
+        }
+    }
+
+    private static int firstInvalidBlock(BlockStore store, int fromHeight, int height) {
+        int start = Math.max(fromHeight, 1);
+        if (start >= height) {
+            return -1;
+        }
+        Block previousBlock = store.get(start - 1);
+        for (int i = start; i < height; i++) {
+            Block currentBlock = store.get(i);
+            if (!isBlockValid(currentBlock, previousBlock)) {
+                return i;
             }
+            previousBlock = currentBlock;
         }
-        return true;
+        return -1;
     }
 
+    static boolean isBlockValid(Block currentBlock, Block previousBlock) {
+        // Verify merkleRoot matches transactions (this catches transaction tampering)
+        String calculatedMerkleRoot = HashUtil.getMerkleRoot(currentBlock.getTransactions());
+        String storedMerkleRoot = currentBlock.getMerkleRoot() != null ? currentBlock.getMerkleRoot() : "";
+        if (!calculatedMerkleRoot.equals(storedMerkleRoot)) {
+            return false;
+        }
+
+        // Verify current block's hash over the stored header
+        if (!currentBlock.getHash().equals(currentBlock.calculateHash(currentBlock.getNonce()))) {
+            return false;
+        }
+
+        // Verify link to previous block
+        return currentBlock.getPreviousHash().equals(previousBlock.getHash());
+    }
+
+    /**
+     * Re-checks the block at {@code height} on its own: Merkle root recomputed from its
+     * transactions, header hash recomputed, and the link to its parent. The genesis block
+     * only has its hash checked.
+     */
+    public boolean isBlockValid(int height) {
+        Block block = store.get(height);
+        if (height == 0) {
+            return block.getHash().equals(block.calculateHash(block.getNonce()));
+        }
+        return isBlockValid(block, store.get(height - 1));
+    }
+
+    public int getVerifiedHeight() {
+        return verifiedHeight;
+    }
+
+    /**
+     * Moves the watermark up to {@code height}, for blocks known to have been validated
+     * before a restart. Never lowers it or moves it past the chain.
+     */
+    public void restoreVerifiedHeight(int height) {
+        synchronized (verifyLock) {
+            verifiedHeight = Math.max(verifiedHeight, Math.min(height, store.size() - 1));
+        }
+    }
+
+    /**
+     * Every vote on the chain in block order, read lazily so the caller decides how much
+     * to hold in memory.
+     */
+    public Stream<Vote> streamVotes() {
+        List<Block> chain = getChain();
+        return IntStream.range(0, chain.size()).mapToObj(chain::get).flatMap(block -> block.getVotes().stream());
+    }
+
+    /**
+     * Read-only view of the chain that is safe to read while blocks are being appended.
+     * Its size is re-read on every call, so iterate over a snapshot of {@code size()} if
+     * a stable length matters.
+     */
     public List<Block> getChain() {
-        return chain;
+        return store.asList();
+    }
+
+    /**
+     * Replaces the chain with an in-memory copy of the given blocks. Only allowed while
+     * the chain is itself in memory: a durable store is append-only, and swapping it out
+     * would silently stop persisting every later block.
+     *
+     * @throws IllegalStateException if the chain is kept in a store other than
+     *                               {@link MemoryBlockStore}
+     */
+    public synchronized void setChain(List<Block> chain) {
+        if (!(store instanceof MemoryBlockStore)) {
+            throw new IllegalStateException("Cannot replace a chain kept in " + store.getClass().getSimpleName());
+        }
+        this.store = new MemoryBlockStore(chain);
+        this.tip = chain.get(chain.size() - 1);
+        synchronized (verifyLock) {
+            this.verifiedHeight = 0;
+        }
+        for (BlockListener listener : listeners) {
+            listener.chainReset();
+            for (Block block : chain) {
+                listener.blockAppended(block);
+            }
+        }
+    }
+
+    public BlockStore getStore() {
+        return store;
+    }
+
+    public int getMiningThreads() {
+        return miner.getThreads();
     }
 
-    public void setChain(List<Block> chain) {
-        this.chain = chain;
+    @PreDestroy
+    public void shutdown() {
+        miner.shutdown();
     }
 
     public int getDifficulty() {
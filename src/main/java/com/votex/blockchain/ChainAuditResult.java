@@ -0,0 +1,38 @@
+package com.votex.blockchain;
+
+/**
+ * Outcome of a full-chain audit: whether the chain is valid, the first offending
+ * block if not, and how long the audit took.
+ */
+public class ChainAuditResult {
+    private final boolean valid;
+    private final int firstInvalidIndex;
+    private final int blocksChecked;
+    private final long elapsedMillis;
+
+    public ChainAuditResult(int firstInvalidIndex, int blocksChecked, long elapsedMillis) {
+        this.valid = firstInvalidIndex < 0;
+        this.firstInvalidIndex = firstInvalidIndex;
+        this.blocksChecked = blocksChecked;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Index of the lowest invalid block, or -1 if every block checked out.
+     */
+    public int getFirstInvalidIndex() {
+        return firstInvalidIndex;
+    }
+
+    public int getBlocksChecked() {
+        return blocksChecked;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
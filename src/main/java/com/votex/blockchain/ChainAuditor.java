@@ -0,0 +1,80 @@
+package com.votex.blockchain;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Audits a chain in parallel. Each block's hash, Merkle root and link to its predecessor's
+ * stored hash can be checked independently, so the height range is split across a
+ * ForkJoinPool. Ranges above an invalid block that has already been found are skipped,
+ * since only the lowest one is reported.
+ */
+public class ChainAuditor {
+    // Below this many blocks a range is checked inline instead of being split further
+    static final int SEQUENTIAL_THRESHOLD = 64;
+
+    private final ForkJoinPool pool;
+
+    public ChainAuditor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ChainAuditor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ChainAuditResult audit(List<Block> chain) {
+        long start = System.nanoTime();
+        int height = chain.size();
+        AtomicInteger lowestInvalid = new AtomicInteger(Integer.MAX_VALUE);
+
+        if (height > 1) {
+            pool.invoke(new RangeTask(chain, 1, height, lowestInvalid));
+        }
+
+        int firstInvalid = lowestInvalid.get() == Integer.MAX_VALUE ? -1 : lowestInvalid.get();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new ChainAuditResult(firstInvalid, height, elapsed);
+    }
+
+    private static final class RangeTask extends RecursiveTask<Void> {
+        private final List<Block> chain;
+        private final int from;
+        private final int to;
+        private final AtomicInteger lowestInvalid;
+
+        RangeTask(List<Block> chain, int from, int to, AtomicInteger lowestInvalid) {
+            this.chain = chain;
+            this.from = from;
+            this.to = to;
+            this.lowestInvalid = lowestInvalid;
+        }
+
+        @Override
+        protected Void compute() {
+            if (from >= lowestInvalid.get()) {
+                return null;
+            }
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                checkRange();
+                return null;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(chain, from, mid, lowestInvalid),
+                      new RangeTask(chain, mid, to, lowestInvalid));
+            return null;
+        }
+
+        private void checkRange() {
+            for (int i = from; i < to && i < lowestInvalid.get(); i++) {
+                if (!Blockchain.isBlockValid(chain.get(i), chain.get(i - 1))) {
+                    lowestInvalid.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.votex.blockchain;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Open-addressing hash table from fixed-width keys ({@code keyLongs} longs, e.g. 4 for a
+ * SHA-256 digest) to non-negative long values. Keys and values live in flat primitive
+ * arrays with linear probing, so an entry costs {@code 8 * (keyLongs + 1)} bytes at up
+ * to 2/3 load and no objects. Keys are expected to be uniformly random already (digests,
+ * UUIDs), so the slot is taken from a mix of the first key word.
+ *
+ * <p>Writes are serialized by a {@link StampedLock}; reads are optimistic and only fall
+ * back to the read lock if a write overlapped them.
+ */
+final class FixedKeyTable {
+    private final int keyLongs;
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    // value + 1, so 0 marks an empty slot
+    private long[] values;
+    private int size;
+
+    FixedKeyTable(int keyLongs, int initialCapacity) {
+        this.keyLongs = keyLongs;
+        allocate(Math.max(16, Integer.highestOneBit(Math.max(initialCapacity, 1) - 1) << 1));
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * keyLongs];
+        values = new long[capacity];
+    }
+
+    /**
+     * The value stored under {@code key}, or -1 if there is none.
+     */
+    long get(long[] key) {
+        long stamp = lock.tryOptimisticRead();
+        long value = find(key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private long find(long[] key) {
+        long[] currentKeys = keys;
+        long[] currentValues = values;
+        int mask = currentValues.length - 1;
+        // A torn read during a resize can see arrays of different sizes; validation will fail
+        if (currentKeys.length != currentValues.length * keyLongs) {
+            return -1;
+        }
+        for (int slot = slot(key, mask), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            long stored = currentValues[slot];
+            if (stored == 0) {
+                return -1;
+            }
+            if (matches(currentKeys, slot, key)) {
+                return stored - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stores {@code value} under {@code key}, replacing any value already there.
+     */
+    void put(long[] key, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Values must not be negative");
+        }
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 3L > values.length * 2L) {
+                grow();
+            }
+            if (insert(keys, values, key, value + 1)) {
+                size++;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean insert(long[] intoKeys, long[] intoValues, long[] key, long storedValue) {
+        int mask = intoValues.length - 1;
+        int slot = slot(key, mask);
+        while (intoValues[slot] != 0) {
+            if (matches(intoKeys, slot, key)) {
+                intoValues[slot] = storedValue;
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        System.arraycopy(key, 0, intoKeys, slot * keyLongs, keyLongs);
+        intoValues[slot] = storedValue;
+        return true;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        long[] newKeys = new long[oldKeys.length * 2];
+        long[] newValues = new long[oldValues.length * 2];
+        long[] key = new long[keyLongs];
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != 0) {
+                System.arraycopy(oldKeys, slot * keyLongs, key, 0, keyLongs);
+                insert(newKeys, newValues, key, oldValues[slot]);
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    void clear() {
+        long stamp = lock.writeLock();
+        try {
+            allocate(16);
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean matches(long[] tableKeys, int slot, long[] key) {
+        int offset = slot * keyLongs;
+        return Arrays.equals(tableKeys, offset, offset + keyLongs, key, 0, keyLongs);
+    }
+
+    private static int slot(long[] key, int mask) {
+        long h = key[0];
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,48 @@
+package com.votex.blockchain;
+
+import com.votex.crypto.HashUtil;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+
+/**
+ * Hashes one block header for many nonces. The fixed prefix (index, timestamp, Merkle
+ * root, previous hash) is absorbed into a SHA-256 state once; each attempt clones that
+ * midstate and only feeds it the nonce digits, so the prefix blocks are never recompressed.
+ * Not thread-safe: every mining worker builds its own.
+ */
+final class HeaderHasher {
+    private final MessageDigest midstate;
+    private final byte[] nonceDigits = new byte[Block.MAX_NONCE_DIGITS];
+
+    HeaderHasher(Block block) {
+        this.midstate = HashUtil.newSha256Digest();
+        this.midstate.update(block.headerPrefix());
+    }
+
+    void hash(int nonce, byte[] out) {
+        MessageDigest digest = copyMidstate();
+        int length = Block.writeNonce(nonce, nonceDigits, 0);
+        digest.update(nonceDigits, 0, length);
+        try {
+            digest.digest(out, 0, HashUtil.SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalArgumentException("Output buffer too small for SHA-256 digest", e);
+        }
+    }
+
+    String hash(int nonce) {
+        byte[] out = new byte[HashUtil.SHA256_LENGTH];
+        hash(nonce, out);
+        return HashUtil.toHex(out);
+    }
+
+    private MessageDigest copyMidstate() {
+        try {
+            return (MessageDigest) midstate.clone();
+        } catch (CloneNotSupportedException e) {
+            // Every JDK SHA-256 provider is cloneable; anything else is a broken install
+            throw new IllegalStateException("SHA-256 digest does not support cloning", e);
+        }
+    }
+}
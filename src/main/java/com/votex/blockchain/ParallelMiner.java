@@ -0,0 +1,125 @@
+package com.votex.blockchain;
+
+import com.votex.crypto.HashUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Proof-of-work search that splits the nonce space across a fixed pool of workers.
+ * Worker {@code k} of {@code n} tries nonces {@code k, k + n, k + 2n, ...}; the first
+ * one to hit the target wins and the others stop at their next attempt.
+ */
+public class ParallelMiner {
+    private final int threads;
+    private final ThreadPoolExecutor pool;
+
+    public ParallelMiner(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Mining threads must be at least 1");
+        }
+        this.threads = threads;
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "miner-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // Idle workers go away between elections instead of pinning threads forever
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Finds a nonce that meets {@code difficulty} and stores it, with the resulting hash,
+     * on {@code block}. Returns how many nonces were hashed across all workers.
+     */
+    public long mine(Block block, int difficulty) {
+        // The Merkle root was sealed with the transactions; only redo it if some were added since
+        if (block.isMerkleStale()) {
+            block.sealTransactions();
+        }
+        AtomicBoolean found = new AtomicBoolean();
+        LongAdder attempts = new LongAdder();
+
+        if (threads == 1) {
+            search(block, difficulty, 0, 1, found, attempts);
+        } else {
+            runWorkers(block, difficulty, found, attempts);
+        }
+
+        if (!found.get()) {
+            throw new IllegalStateException("Nonce space exhausted at difficulty " + difficulty);
+        }
+        return attempts.sum();
+    }
+
+    private void runWorkers(Block block, int difficulty, AtomicBoolean found, LongAdder attempts) {
+        List<Callable<Void>> workers = new ArrayList<>(threads);
+        for (int k = 0; k < threads; k++) {
+            int start = k;
+            workers.add(() -> {
+                search(block, difficulty, start, threads, found, attempts);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : pool.invokeAll(workers)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Mining interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Mining failed", e.getCause());
+        }
+    }
+
+    /**
+     * Tries nonces {@code start, start + step, ...} until one meets the difficulty or
+     * another worker sets {@code found}. Each attempt resumes from the pre-hashed header
+     * prefix and digests into a reused buffer; the hex string is built only for the winner.
+     * The number of nonces tried is added to {@code attempts} once, when the search ends.
+     */
+    static boolean search(Block block, int difficulty, long start, int step, AtomicBoolean found,
+                          LongAdder attempts) {
+        HeaderHasher hasher = new HeaderHasher(block);
+        byte[] digest = new byte[HashUtil.SHA256_LENGTH];
+        long tried = 0;
+
+        try {
+            for (long nonce = start; nonce <= Integer.MAX_VALUE && !found.get(); nonce += step) {
+                tried++;
+                hasher.hash((int) nonce, digest);
+                if (HashUtil.hasLeadingZeroNibbles(digest, difficulty)) {
+                    if (found.compareAndSet(false, true)) {
+                        block.setNonce((int) nonce);
+                        block.setHash(HashUtil.toHex(digest));
+                    }
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            attempts.add(tried);
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,131 @@
+package com.votex.blockchain;
+
+import com.votex.blockchain.checkpoint.Checkpoint;
+import com.votex.blockchain.checkpoint.CheckpointStore;
+import com.votex.model.Vote;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running vote counts per election and candidate, kept in step with the chain as blocks
+ * are committed. Reads are a map lookup, so counts stay cheap no matter how long the chain
+ * grows; on startup the index is restored from the latest checkpoint, if there is one,
+ * and brought up to date by replaying the blocks after it.
+ */
+@Component
+public class TallyIndex implements BlockListener {
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LongAdder>> byElection = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> byCandidate = new ConcurrentHashMap<>();
+
+    public TallyIndex() {
+    }
+
+    /**
+     * Restores from the checkpoint, if there is one, then replays the rest of the chain and
+     * keeps the index updated from then on.
+     */
+    @Autowired
+    public TallyIndex(Blockchain blockchain, CheckpointStore checkpoints) {
+        checkpoints.getRestored().ifPresent(this::restore);
+        blockchain.subscribe(this, checkpoints.getReplayFrom());
+    }
+
+    @Override
+    public void blockAppended(Block block) {
+        for (Vote vote : block.getVotes()) {
+            record(vote);
+        }
+    }
+
+    @Override
+    public void chainReset() {
+        byElection.clear();
+        byCandidate.clear();
+    }
+
+    private void restore(Checkpoint checkpoint) {
+        checkpoint.getCandidateCounts().forEach((candidateId, count) -> adder(byCandidate, candidateId).add(count));
+        checkpoint.getElectionCounts().forEach((electionId, candidates) -> {
+            ConcurrentHashMap<String, LongAdder> counts = byElection.computeIfAbsent(electionId, id -> new ConcurrentHashMap<>());
+            candidates.forEach((candidateId, count) -> adder(counts, candidateId).add(count));
+        });
+    }
+
+    private static LongAdder adder(ConcurrentHashMap<String, LongAdder> counts, String candidateId) {
+        return counts.computeIfAbsent(candidateId, id -> new LongAdder());
+    }
+
+    private void record(Vote vote) {
+        String candidateId = vote.getCandidateId();
+        if (candidateId == null) {
+            return;
+        }
+        byCandidate.computeIfAbsent(candidateId, id -> new LongAdder()).increment();
+        if (vote.getElectionId() != null) {
+            byElection.computeIfAbsent(vote.getElectionId(), id -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(candidateId, id -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    /**
+     * Copy of every candidate's count across elections. Matches a single block height only
+     * when taken from a {@link BlockListener} registered after this index.
+     */
+    public Map<String, Long> getCandidateCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        byCandidate.forEach((candidateId, count) -> counts.put(candidateId, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Copy of every election's tally, with the same caveat as {@link #getCandidateCounts()}.
+     */
+    public Map<String, Map<String, Long>> getElectionCounts() {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        byElection.forEach((electionId, candidates) -> {
+            Map<String, Long> tally = new HashMap<>();
+            candidates.forEach((candidateId, count) -> tally.put(candidateId, count.sum()));
+            counts.put(electionId, tally);
+        });
+        return counts;
+    }
+
+    /**
+     * Votes on the chain for a candidate across all elections.
+     */
+    public long getCount(String candidateId) {
+        LongAdder count = byCandidate.get(candidateId);
+        return count == null ? 0 : count.sum();
+    }
+
+    public long getCount(String electionId, String candidateId) {
+        Map<String, LongAdder> candidates = byElection.get(electionId);
+        if (candidates == null) {
+            return 0;
+        }
+        LongAdder count = candidates.get(candidateId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Snapshot of every candidate's count in an election, sorted by candidate id.
+     */
+    public Map<String, Long> getElectionTally(String electionId) {
+        Map<String, LongAdder> candidates = byElection.get(electionId);
+        if (candidates == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Long> tally = new TreeMap<>();
+        candidates.forEach((candidateId, count) -> tally.put(candidateId, count.sum()));
+        return tally;
+    }
+}
@@ -0,0 +1,101 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds votes that have been accepted but not yet sealed into a block,
+ * together with the PENDING receipt handed back to each voter.
+ */
+@Component
+public class VotePool {
+    private final BlockingQueue<Vote> pending = new LinkedBlockingQueue<>();
+    private final Map<String, VoteReceipt> receipts = new ConcurrentHashMap<>();
+
+    public VotePool() {
+    }
+
+    @Autowired
+    public VotePool(MeterRegistry registry) {
+        Gauge.builder("votex.pool.pending", pending, BlockingQueue::size)
+                .description("Votes accepted but not yet sealed into a block")
+                .register(registry);
+    }
+
+    public VoteReceipt submit(Vote vote) {
+        VoteReceipt receipt = VoteReceipt.pending(vote.getId());
+        receipts.put(vote.getId(), receipt);
+        pending.add(vote);
+        return receipt;
+    }
+
+    /**
+     * Waits up to {@code maxWaitMillis} for the first vote, then keeps collecting
+     * until {@code maxVotes} are in hand or the window since the first vote closes.
+     * Returns an empty list if nothing arrived.
+     */
+    public List<Vote> drain(int maxVotes, long maxWaitMillis) throws InterruptedException {
+        List<Vote> batch = new ArrayList<>();
+        Vote first = pending.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        while (batch.size() < maxVotes) {
+            pending.drainTo(batch, maxVotes - batch.size());
+            if (batch.size() >= maxVotes) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            Vote next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Puts back votes that were drained but could not be sealed. Their receipts stay PENDING.
+     */
+    public void requeue(List<Vote> votes) {
+        pending.addAll(votes);
+    }
+
+    /**
+     * Forgets the receipts of votes that are now sealed into a block. From then on the chain
+     * answers for them, so receipts only ever cover votes still waiting in the pool.
+     */
+    public void confirm(List<Vote> votes) {
+        for (Vote vote : votes) {
+            receipts.remove(vote.getId());
+        }
+    }
+
+    public Optional<VoteReceipt> getReceipt(String voteId) {
+        return Optional.ofNullable(receipts.get(voteId));
+    }
+
+    public int size() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,165 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Canonical text form of a vote as it is stored in a block's transaction list, and
+ * hashed into the Merkle root:
+ *
+ * <pre>vote:1|id|voterId|candidateId|electionId|epochSecond.nanos|signature</pre>
+ *
+ * Timestamps are UTC. A {@code |} or {@code \} inside a field is escaped with a
+ * backslash, and an empty field (nothing between separators) stands for null, while
+ * an empty string is written as {@code \0}. Parsing does a single pass with no regex
+ * or date-time parsing, so reading votes back off the chain stays cheap.
+ */
+public final class VoteTransaction {
+    public static final String PREFIX = "vote:1|";
+    private static final int FIELDS = 6;
+
+    private VoteTransaction() {
+    }
+
+    public static boolean isVote(String transaction) {
+        return transaction != null && transaction.startsWith(PREFIX);
+    }
+
+    /**
+     * True if {@code transaction} is the vote with this ID. Only the ID field is read.
+     */
+    public static boolean hasId(String transaction, String voteId) {
+        return voteId != null && voteId.equals(idOf(transaction));
+    }
+
+    /**
+     * The ID of the vote in {@code transaction}, or null if it is not a vote or has no ID.
+     * Only the ID field is read.
+     */
+    public static String idOf(String transaction) {
+        if (!isVote(transaction)) {
+            return null;
+        }
+        int start = PREFIX.length();
+        return unescape(transaction, start, fieldEnd(transaction, start));
+    }
+
+    public static String encode(Vote vote) {
+        StringBuilder builder = new StringBuilder(PREFIX.length() + 220);
+        builder.append(PREFIX);
+        appendField(builder, vote.getId());
+        builder.append('|');
+        appendField(builder, vote.getVoterId());
+        builder.append('|');
+        appendField(builder, vote.getCandidateId());
+        builder.append('|');
+        appendField(builder, vote.getElectionId());
+        builder.append('|');
+        if (vote.getTimestamp() != null) {
+            Instant instant = vote.getTimestamp().toInstant(ZoneOffset.UTC);
+            builder.append(instant.getEpochSecond()).append('.').append(instant.getNano());
+        }
+        builder.append('|');
+        appendField(builder, vote.getSignature());
+        return builder.toString();
+    }
+
+    private static void appendField(StringBuilder builder, String value) {
+        if (value == null) {
+            return;
+        }
+        if (value.isEmpty()) {
+            builder.append("\\0");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '|' || c == '\\') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+    }
+
+    /**
+     * Parses a transaction written by {@link #encode(Vote)}.
+     *
+     * @throws IllegalArgumentException if it is not a well-formed vote transaction
+     */
+    public static Vote decode(String transaction) {
+        if (!isVote(transaction)) {
+            throw new IllegalArgumentException("Not a vote transaction");
+        }
+        String[] fields = new String[FIELDS];
+        int position = PREFIX.length();
+        for (int field = 0; field < FIELDS; field++) {
+            int end = fieldEnd(transaction, position);
+            boolean last = field == FIELDS - 1;
+            if (last != (end == transaction.length())) {
+                throw new IllegalArgumentException("Vote transaction must have " + FIELDS + " fields");
+            }
+            fields[field] = unescape(transaction, position, end);
+            position = end + 1;
+        }
+
+        Vote vote = new Vote();
+        vote.setId(fields[0]);
+        vote.setVoterId(fields[1]);
+        vote.setCandidateId(fields[2]);
+        vote.setElectionId(fields[3]);
+        vote.setTimestamp(parseTimestamp(fields[4]));
+        vote.setSignature(fields[5]);
+        return vote;
+    }
+
+    private static int fieldEnd(String text, int from) {
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '|') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static String unescape(String text, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int escape = text.indexOf('\\', from);
+        if (escape < 0 || escape >= to) {
+            return text.substring(from, to);
+        }
+        if (to - from == 2 && text.charAt(from + 1) == '0') {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < to) {
+                c = text.charAt(++i);
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private static LocalDateTime parseTimestamp(String value) {
+        if (value == null) {
+            return null;
+        }
+        int dot = value.indexOf('.');
+        try {
+            long seconds = Long.parseLong(dot < 0 ? value : value.substring(0, dot));
+            int nanos = dot < 0 ? 0 : Integer.parseInt(value.substring(dot + 1));
+            return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed vote timestamp: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.votex.blockchain;
+
+import com.votex.blockchain.checkpoint.CheckpointStore;
+import com.votex.model.Vote;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every voter with a ballot on the chain. The voter's {@code hasVoted} flag in the database
+ * is the first check; this one still holds when the database lost that flag but the chain
+ * survived, e.g. an in-memory database rebuilt after a restart. Kept up to date as blocks
+ * are committed and restored from the latest checkpoint on startup.
+ */
+@Component
+public class VotedVoterIndex implements BlockListener {
+
+    private final Set<String> voters = ConcurrentHashMap.newKeySet();
+    // The same IDs in chain order, so a checkpoint can take exactly those up to its block
+    private final List<String> order = new ArrayList<>();
+
+    public VotedVoterIndex() {
+    }
+
+    @Autowired
+    public VotedVoterIndex(Blockchain blockchain, CheckpointStore checkpoints) {
+        checkpoints.getRestored().ifPresent(checkpoint -> checkpoint.getVotedVoters().forEach(this::add));
+        blockchain.subscribe(this, checkpoints.getReplayFrom());
+    }
+
+    @Override
+    public void blockAppended(Block block) {
+        for (Vote vote : block.getVotes()) {
+            if (vote.getVoterId() != null) {
+                add(vote.getVoterId());
+            }
+        }
+    }
+
+    @Override
+    public void chainReset() {
+        synchronized (order) {
+            voters.clear();
+            order.clear();
+        }
+    }
+
+    private void add(String voterId) {
+        if (voters.add(voterId)) {
+            synchronized (order) {
+                order.add(voterId);
+            }
+        }
+    }
+
+    public boolean hasVoted(String voterId) {
+        return voterId != null && voters.contains(voterId);
+    }
+
+    public int size() {
+        synchronized (order) {
+            return order.size();
+        }
+    }
+
+    /**
+     * The first {@code count} voters in chain order. Pair it with a {@link #size()} read
+     * while the chain lock is held to get exactly the voters up to that block.
+     */
+    public List<String> getVoters(int count) {
+        synchronized (order) {
+            return new ArrayList<>(order.subList(0, count));
+        }
+    }
+}
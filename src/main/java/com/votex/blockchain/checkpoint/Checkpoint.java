@@ -0,0 +1,59 @@
+package com.votex.blockchain.checkpoint;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State derived from the chain up to and including one block, so a restart can pick up
+ * from that block instead of replaying the whole chain.
+ */
+public final class Checkpoint {
+    private final int height;
+    private final String tipHash;
+    private final int verifiedHeight;
+    private final Map<String, Long> candidateCounts;
+    private final Map<String, Map<String, Long>> electionCounts;
+    private final List<String> votedVoters;
+
+    /**
+     * @param height index of the last block the state covers
+     * @param tipHash hash of that block, checked against the store on restore
+     * @param verifiedHeight highest block that had passed validation, at most {@code height}
+     * @param candidateCounts votes per candidate across elections
+     * @param electionCounts votes per election and candidate
+     * @param votedVoters IDs of every voter with a ballot in blocks up to {@code height}, in chain order
+     */
+    public Checkpoint(int height, String tipHash, int verifiedHeight, Map<String, Long> candidateCounts,
+                      Map<String, Map<String, Long>> electionCounts, List<String> votedVoters) {
+        this.height = height;
+        this.tipHash = tipHash;
+        this.verifiedHeight = verifiedHeight;
+        this.candidateCounts = candidateCounts;
+        this.electionCounts = electionCounts;
+        this.votedVoters = votedVoters;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public String getTipHash() {
+        return tipHash;
+    }
+
+    public int getVerifiedHeight() {
+        return verifiedHeight;
+    }
+
+    public Map<String, Long> getCandidateCounts() {
+        return candidateCounts;
+    }
+
+    public Map<String, Map<String, Long>> getElectionCounts() {
+        return electionCounts;
+    }
+
+    public List<String> getVotedVoters() {
+        return votedVoters;
+    }
+}
@@ -0,0 +1,120 @@
+package com.votex.blockchain.checkpoint;
+
+import com.votex.blockchain.codec.BinaryReader;
+import com.votex.blockchain.codec.BinaryWriter;
+import com.votex.crypto.HashUtil;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary form of a {@link Checkpoint}:
+ *
+ * <pre>
+ * magic           "VXCP"
+ * version         1 byte
+ * height          varint
+ * tipHash         32 raw bytes, or a string when it isn't a SHA-256 hex digest
+ * verifiedHeight  varint
+ * candidates      varint count, then each as id string and varint count
+ * elections       varint count, then each as id string and a candidates table as above
+ * votedVoters     varint count, then each id (16 bytes for UUIDs)
+ * digest          SHA-256 of everything before it
+ * </pre>
+ *
+ * The trailing digest catches a torn or damaged file, which is then not used at all.
+ */
+public final class CheckpointFile {
+    public static final int VERSION = 1;
+
+    private static final byte[] MAGIC = "VXCP".getBytes(StandardCharsets.US_ASCII);
+
+    private CheckpointFile() {
+    }
+
+    public static byte[] encode(Checkpoint checkpoint) {
+        BinaryWriter writer = new BinaryWriter(64 + checkpoint.getVotedVoters().size() * 17);
+        writer.writeBytes(MAGIC);
+        writer.writeByte(VERSION);
+        writer.writeVarInt(checkpoint.getHeight());
+        writer.writeHash(checkpoint.getTipHash());
+        writer.writeVarInt(checkpoint.getVerifiedHeight());
+        writeCounts(writer, checkpoint.getCandidateCounts());
+        writer.writeVarInt(checkpoint.getElectionCounts().size());
+        for (Map.Entry<String, Map<String, Long>> election : checkpoint.getElectionCounts().entrySet()) {
+            writer.writeString(election.getKey());
+            writeCounts(writer, election.getValue());
+        }
+        writer.writeVarInt(checkpoint.getVotedVoters().size());
+        for (String voterId : checkpoint.getVotedVoters()) {
+            writer.writeId(voterId);
+        }
+        writer.writeBytes(HashUtil.sha256(writer.toByteArray()));
+        return writer.toByteArray();
+    }
+
+    private static void writeCounts(BinaryWriter writer, Map<String, Long> counts) {
+        writer.writeVarInt(counts.size());
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            writer.writeString(count.getKey());
+            writer.writeVarLong(count.getValue());
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not an intact checkpoint of a known version
+     */
+    public static Checkpoint decode(byte[] bytes) {
+        int bodyLength = bytes.length - HashUtil.SHA256_LENGTH;
+        if (bodyLength < MAGIC.length + 1) {
+            throw new IllegalArgumentException("Checkpoint is truncated");
+        }
+        byte[] digest = HashUtil.sha256(bytes, 0, bodyLength);
+        if (!Arrays.equals(digest, Arrays.copyOfRange(bytes, bodyLength, bytes.length))) {
+            throw new IllegalArgumentException("Checkpoint digest does not match its contents");
+        }
+
+        try {
+            BinaryReader reader = new BinaryReader(ByteBuffer.wrap(bytes, 0, bodyLength));
+            if (!Arrays.equals(MAGIC, reader.readBytes(MAGIC.length))) {
+                throw new IllegalArgumentException("Not a checkpoint file");
+            }
+            int version = reader.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported checkpoint version " + version);
+            }
+            int height = reader.readVarInt();
+            String tipHash = reader.readHash();
+            int verifiedHeight = reader.readVarInt();
+            Map<String, Long> candidateCounts = readCounts(reader);
+            int elections = reader.readVarInt();
+            Map<String, Map<String, Long>> electionCounts = new HashMap<>();
+            for (int i = 0; i < elections; i++) {
+                electionCounts.put(reader.readString(), readCounts(reader));
+            }
+            int voters = reader.readVarInt();
+            List<String> votedVoters = new ArrayList<>(voters);
+            for (int i = 0; i < voters; i++) {
+                votedVoters.add(reader.readId());
+            }
+            return new Checkpoint(height, tipHash, verifiedHeight, candidateCounts, electionCounts, votedVoters);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Checkpoint is truncated", e);
+        }
+    }
+
+    private static Map<String, Long> readCounts(BinaryReader reader) {
+        int size = reader.readVarInt();
+        Map<String, Long> counts = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            counts.put(reader.readString(), reader.readVarLong());
+        }
+        return counts;
+    }
+}
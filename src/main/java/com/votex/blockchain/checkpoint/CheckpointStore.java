@@ -0,0 +1,127 @@
+package com.votex.blockchain.checkpoint;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The latest checkpoint, kept as {@value #FILE_NAME} next to the block segments. On startup
+ * it is read once and accepted only if its digest is intact and the block it names is
+ * still on the chain with the same hash and passes validation (Merkle root and header hash
+ * recomputed); otherwise it is ignored and the chain is replayed in full. The verified
+ * height it records is trusted as is, so blocks below it are not re-checked by
+ * {@link Blockchain#verifyNewBlocks()}; a full audit still covers them. Only a
+ * disk-backed chain gets checkpoints, since an in-memory one never survives a restart.
+ */
+@Component
+public class CheckpointStore {
+    public static final String FILE_NAME = "checkpoint.bin";
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointStore.class);
+
+    private final Path file;
+    private final Checkpoint restored;
+
+    @Autowired
+    public CheckpointStore(Blockchain blockchain, @Value("${blockchain.store.path:}") String storePath) {
+        this(blockchain, storePath.isEmpty() ? null : Paths.get(storePath).resolve(FILE_NAME));
+    }
+
+    /**
+     * @param file where checkpoints are kept; {@code null} disables them
+     */
+    public CheckpointStore(Blockchain blockchain, Path file) {
+        this.file = file;
+        this.restored = file == null ? null : load(blockchain);
+        if (restored != null) {
+            blockchain.restoreVerifiedHeight(restored.getVerifiedHeight());
+        }
+    }
+
+    private Checkpoint load(Blockchain blockchain) {
+        Checkpoint checkpoint;
+        try {
+            checkpoint = CheckpointFile.decode(Files.readAllBytes(file));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring checkpoint {}: {}", file, e.getMessage());
+            return null;
+        }
+
+        List<Block> chain = blockchain.getChain();
+        if (checkpoint.getHeight() >= chain.size()
+                || !chain.get(checkpoint.getHeight()).getHash().equals(checkpoint.getTipHash())) {
+            log.warn("Ignoring checkpoint at height {}: block is not on the chain", checkpoint.getHeight());
+            return null;
+        }
+        // The stored hash alone proves nothing about the block's contents
+        if (!blockchain.isBlockValid(checkpoint.getHeight())) {
+            log.warn("Ignoring checkpoint at height {}: block fails validation", checkpoint.getHeight());
+            return null;
+        }
+        log.info("Restoring from checkpoint at height {}, {} blocks to replay",
+                checkpoint.getHeight(), chain.size() - checkpoint.getHeight() - 1);
+        return checkpoint;
+    }
+
+    public boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * The checkpoint found and validated at startup, if any.
+     */
+    public Optional<Checkpoint> getRestored() {
+        return Optional.ofNullable(restored);
+    }
+
+    /**
+     * Height from which block listeners have to replay the chain to catch up with the
+     * restored checkpoint, or 0 if there is none.
+     */
+    public int getReplayFrom() {
+        return restored == null ? 0 : restored.getHeight() + 1;
+    }
+
+    /**
+     * Replaces the stored checkpoint. The new one is written and synced to a temporary
+     * file first and then moved into place, so a crash leaves either the old or the new.
+     */
+    public void save(Checkpoint checkpoint) {
+        if (file == null) {
+            throw new IllegalStateException("Checkpoints are disabled");
+        }
+        Path temporary = file.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer bytes = ByteBuffer.wrap(CheckpointFile.encode(checkpoint));
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write checkpoint " + file, e);
+        }
+    }
+}
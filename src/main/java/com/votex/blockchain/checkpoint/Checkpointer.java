@@ -0,0 +1,115 @@
+package com.votex.blockchain.checkpoint;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockListener;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.TallyIndex;
+import com.votex.blockchain.VotedVoterIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes a checkpoint every {@code intervalBlocks} blocks. The tallies and the number of
+ * voted voters are captured while the block is being committed, so they match its height
+ * exactly; encoding and writing the file happen on a background thread. If writes fall
+ * behind, a pending checkpoint is replaced by the newer one rather than queued.
+ */
+@Component
+public class Checkpointer implements BlockListener {
+    private static final Logger log = LoggerFactory.getLogger(Checkpointer.class);
+
+    private final Blockchain blockchain;
+    private final TallyIndex tallyIndex;
+    private final VotedVoterIndex votedVoters;
+    private final CheckpointStore store;
+    private final int intervalBlocks;
+    private final ExecutorService writer;
+    // Newest checkpoint not yet picked up by the writer; a newer one simply replaces it
+    private final AtomicReference<Runnable> pending = new AtomicReference<>();
+
+    /**
+     * @param intervalBlocks blocks between checkpoints; 0 turns checkpointing off
+     */
+    public Checkpointer(Blockchain blockchain, TallyIndex tallyIndex, VotedVoterIndex votedVoters,
+                        CheckpointStore store,
+                        @Value("${blockchain.checkpoint.interval-blocks:100}") int intervalBlocks) {
+        this.blockchain = blockchain;
+        this.tallyIndex = tallyIndex;
+        this.votedVoters = votedVoters;
+        this.store = store;
+        this.intervalBlocks = intervalBlocks;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (store.isEnabled() && intervalBlocks > 0) {
+            // Registered after both indexes, so they have already counted each block we see
+            blockchain.subscribe(this, blockchain.getChain().size());
+        }
+    }
+
+    @Override
+    public void blockAppended(Block block) {
+        // Blocks replayed after setChain arrive once the indexes hold the whole new chain;
+        // only the tip itself matches them
+        if (block.getIndex() % intervalBlocks != 0 || block != blockchain.getLatestBlock()) {
+            return;
+        }
+        int height = block.getIndex();
+        String tipHash = block.getHash();
+        int verifiedHeight = Math.min(blockchain.getVerifiedHeight(), height);
+        Map<String, Long> candidateCounts = tallyIndex.getCandidateCounts();
+        Map<String, Map<String, Long>> electionCounts = tallyIndex.getElectionCounts();
+        int voterCount = votedVoters.size();
+
+        pending.set(() -> {
+            long start = System.nanoTime();
+            List<String> voters = votedVoters.getVoters(voterCount);
+            try {
+                store.save(new Checkpoint(height, tipHash, verifiedHeight, candidateCounts, electionCounts, voters));
+                log.debug("Checkpoint at height {} written in {} ms", height,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (RuntimeException e) {
+                log.warn("Checkpoint at height {} failed: {}", height, e.getMessage());
+            }
+        });
+        writer.execute(this::writePending);
+    }
+
+    private void writePending() {
+        Runnable checkpoint = pending.getAndSet(null);
+        if (checkpoint != null) {
+            checkpoint.run();
+        }
+    }
+
+    /**
+     * Waits until every checkpoint taken so far has been written or superseded.
+     */
+    public void awaitWrites() throws InterruptedException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,45 @@
+package com.votex.blockchain.codec;
+
+import java.util.UUID;
+
+/**
+ * Tags and format checks shared by the writer and reader.
+ */
+final class BinaryFormat {
+    static final int ID_UUID = 1;
+    static final int ID_STRING = 2;
+    static final int HASH_RAW = 1;
+    static final int HASH_STRING = 2;
+
+    private BinaryFormat() {
+    }
+
+    static boolean isSha256Hex(String value) {
+        if (value == null || value.length() != 64) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The UUID for {@code value} if it is in canonical lowercase form, so that decoding
+     * gives back exactly the same string; otherwise {@code null}.
+     */
+    static UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(value);
+            return uuid.toString().equals(value) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
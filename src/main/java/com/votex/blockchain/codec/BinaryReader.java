@@ -0,0 +1,120 @@
+package com.votex.blockchain.codec;
+
+import com.votex.crypto.HashUtil;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads what {@link BinaryWriter} wrote. Works on any ByteBuffer, including memory-mapped ones.
+ */
+public final class BinaryReader {
+    private final ByteBuffer buffer;
+    private final List<String> interned = new ArrayList<>();
+
+    public BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public BinaryReader(byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public byte[] readBytes(int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public int readSignedVarInt() {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    public String readInterned() {
+        int tag = readVarInt();
+        if (tag == 0) {
+            return null;
+        }
+        if (tag == 1) {
+            String value = readString();
+            interned.add(value);
+            return value;
+        }
+        int id = tag - 2;
+        if (id >= interned.size()) {
+            throw new IllegalStateException("Reference to unknown interned string " + id);
+        }
+        return interned.get(id);
+    }
+
+    public String readId() {
+        int tag = readByte();
+        switch (tag) {
+            case BinaryFormat.ID_UUID:
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+            case BinaryFormat.ID_STRING:
+                return readString();
+            default:
+                throw new IllegalStateException("Unknown id encoding " + tag);
+        }
+    }
+
+    public String readHash() {
+        int tag = readByte();
+        switch (tag) {
+            case BinaryFormat.HASH_RAW:
+                return HashUtil.toHex(readBytes(HashUtil.SHA256_LENGTH));
+            case BinaryFormat.HASH_STRING:
+                return readString();
+            default:
+                throw new IllegalStateException("Unknown hash encoding " + tag);
+        }
+    }
+
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.votex.blockchain.codec;
+
+import com.votex.crypto.HashUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Growable byte sink with the primitives shared by the block and vote codecs:
+ * LEB128 varints, length-prefixed strings, raw 32-byte hashes and interned strings.
+ */
+public final class BinaryWriter {
+    private byte[] buffer;
+    private int position;
+    private final Map<String, Integer> interned = new HashMap<>();
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Unsigned LEB128: seven bits per byte, high bit set on all but the last.
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarInt(int value) {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    /**
+     * ZigZag-encoded so small negative numbers stay small.
+     */
+    public void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Length + 1 as a varint (0 means null), then the UTF-8 bytes.
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes a string that is likely to repeat within this writer. The first occurrence is
+     * written in full and numbered; later ones are just a back-reference to that number.
+     */
+    public void writeInterned(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        Integer id = interned.get(value);
+        if (id != null) {
+            writeVarInt(id + 2);
+            return;
+        }
+        interned.put(value, interned.size());
+        writeVarInt(1);
+        writeString(value);
+    }
+
+    /**
+     * Identifiers are stored as 16 raw bytes when they are canonical UUIDs, otherwise as strings.
+     */
+    public void writeId(String value) {
+        UUID uuid = BinaryFormat.parseUuid(value);
+        if (uuid == null) {
+            writeByte(BinaryFormat.ID_STRING);
+            writeString(value);
+            return;
+        }
+        writeByte(BinaryFormat.ID_UUID);
+        ensureCapacity(16);
+        putLong(uuid.getMostSignificantBits());
+        putLong(uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Writes a SHA-256 hex digest as its 32 raw bytes. Anything that is not exactly a
+     * lowercase 64-character hex string (e.g. the genesis "0") falls back to a string.
+     */
+    public void writeHash(String hex) {
+        if (BinaryFormat.isSha256Hex(hex)) {
+            writeByte(BinaryFormat.HASH_RAW);
+            writeBytes(HashUtil.fromHex(hex));
+        } else {
+            writeByte(BinaryFormat.HASH_STRING);
+            writeString(hex);
+        }
+    }
+
+    private void putLong(long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (value >>> shift);
+        }
+    }
+
+    public int size() {
+        return position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+}
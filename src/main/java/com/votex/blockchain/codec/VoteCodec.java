@@ -0,0 +1,175 @@
+package com.votex.blockchain.codec;
+
+import com.votex.model.Vote;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Compact binary form of a {@link Vote}.
+ *
+ * <pre>
+ * id           uuid (16 bytes) or string
+ * voterId      uuid (16 bytes) or string
+ * candidateId  interned string
+ * electionId   interned string
+ * timestamp    presence byte, zigzag epoch millis (UTC), varint sub-millisecond nanos
+ * signature    raw bytes when it is canonical Base64, otherwise string
+ * </pre>
+ *
+ * Candidate and election ids are interned per writer, so a batch of votes for the same
+ * election carries each id once. Decoding gives back a vote equal field for field,
+ * including nanosecond timestamps, so signatures over {@code Vote.toString()} still verify.
+ */
+public final class VoteCodec {
+    public static final int VERSION = 1;
+
+    private static final int SIGNATURE_NONE = 0;
+    private static final int SIGNATURE_BASE64 = 1;
+    private static final int SIGNATURE_STRING = 2;
+
+    private VoteCodec() {
+    }
+
+    public static byte[] encode(Vote vote) {
+        BinaryWriter writer = new BinaryWriter(128);
+        writer.writeByte(VERSION);
+        write(vote, writer);
+        return writer.toByteArray();
+    }
+
+    public static Vote decode(byte[] bytes) {
+        BinaryReader reader = new BinaryReader(bytes);
+        try {
+            checkVersion(reader.readByte());
+            return read(reader);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Truncated vote record", e);
+        }
+    }
+
+    /**
+     * Encodes a batch with one shared intern table.
+     */
+    public static byte[] encodeAll(List<Vote> votes) {
+        BinaryWriter writer = new BinaryWriter(64 + votes.size() * 96);
+        writer.writeByte(VERSION);
+        writer.writeVarInt(votes.size());
+        for (Vote vote : votes) {
+            write(vote, writer);
+        }
+        return writer.toByteArray();
+    }
+
+    public static List<Vote> decodeAll(byte[] bytes) {
+        return decodeAll(ByteBuffer.wrap(bytes));
+    }
+
+    public static List<Vote> decodeAll(ByteBuffer buffer) {
+        BinaryReader reader = new BinaryReader(buffer);
+        try {
+            checkVersion(reader.readByte());
+            int count = reader.readVarInt();
+            List<Vote> votes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                votes.add(read(reader));
+            }
+            return votes;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalStateException("Truncated vote batch", e);
+        }
+    }
+
+    public static void write(Vote vote, BinaryWriter writer) {
+        writer.writeId(vote.getId());
+        writer.writeId(vote.getVoterId());
+        writer.writeInterned(vote.getCandidateId());
+        writer.writeInterned(vote.getElectionId());
+        writeTimestamp(vote.getTimestamp(), writer);
+        writeSignature(vote.getSignature(), writer);
+    }
+
+    public static Vote read(BinaryReader reader) {
+        Vote vote = new Vote();
+        vote.setId(reader.readId());
+        vote.setVoterId(reader.readId());
+        vote.setCandidateId(reader.readInterned());
+        vote.setElectionId(reader.readInterned());
+        vote.setTimestamp(readTimestamp(reader));
+        vote.setSignature(readSignature(reader));
+        return vote;
+    }
+
+    private static void checkVersion(int version) {
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported vote encoding version " + version);
+        }
+    }
+
+    private static void writeTimestamp(LocalDateTime timestamp, BinaryWriter writer) {
+        if (timestamp == null) {
+            writer.writeByte(0);
+            return;
+        }
+        Instant instant = timestamp.toInstant(ZoneOffset.UTC);
+        writer.writeByte(1);
+        writer.writeSignedVarLong(instant.toEpochMilli());
+        writer.writeVarInt(instant.getNano() % 1_000_000);
+    }
+
+    private static LocalDateTime readTimestamp(BinaryReader reader) {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        long epochMillis = reader.readSignedVarLong();
+        int subMillisNanos = reader.readVarInt();
+        Instant instant = Instant.ofEpochMilli(epochMillis).plusNanos(subMillisNanos);
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static void writeSignature(String signature, BinaryWriter writer) {
+        if (signature == null) {
+            writer.writeByte(SIGNATURE_NONE);
+            return;
+        }
+        byte[] raw = decodeCanonicalBase64(signature);
+        if (raw == null) {
+            writer.writeByte(SIGNATURE_STRING);
+            writer.writeString(signature);
+            return;
+        }
+        writer.writeByte(SIGNATURE_BASE64);
+        writer.writeVarInt(raw.length);
+        writer.writeBytes(raw);
+    }
+
+    private static String readSignature(BinaryReader reader) {
+        int tag = reader.readByte();
+        switch (tag) {
+            case SIGNATURE_NONE:
+                return null;
+            case SIGNATURE_BASE64:
+                return Base64.getEncoder().encodeToString(reader.readBytes(reader.readVarInt()));
+            case SIGNATURE_STRING:
+                return reader.readString();
+            default:
+                throw new IllegalStateException("Unknown signature encoding " + tag);
+        }
+    }
+
+    // Only strings that re-encode to themselves can be stored as bytes without changing them
+    private static byte[] decodeCanonicalBase64(String value) {
+        try {
+            byte[] raw = Base64.getDecoder().decode(value);
+            return Base64.getEncoder().encodeToString(raw).equals(value) ? raw : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
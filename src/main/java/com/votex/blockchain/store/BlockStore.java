@@ -0,0 +1,53 @@
+package com.votex.blockchain.store;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.codec.BlockCodec;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Append-only storage for the chain, addressed by block height.
+ */
+public interface BlockStore extends Closeable {
+
+    /**
+     * Appends a block; its index must equal the current {@link #size()}.
+     */
+    void append(Block block);
+
+    Block get(int height);
+
+    int size();
+
+    /**
+     * The {@link BlockCodec} encoding of the block at {@code height}. Stores that keep
+     * blocks encoded return their own bytes without decoding the block first.
+     */
+    default ByteBuffer getEncoded(int height) {
+        return ByteBuffer.wrap(BlockCodec.encode(get(height)));
+    }
+
+    /**
+     * Read-only list view over the store. Elements are fetched on access, so the
+     * whole chain never has to be on the heap at once.
+     */
+    default List<Block> asList() {
+        return new AbstractList<Block>() {
+            @Override
+            public Block get(int index) {
+                return BlockStore.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return BlockStore.this.size();
+            }
+        };
+    }
+
+    @Override
+    void close();
+}
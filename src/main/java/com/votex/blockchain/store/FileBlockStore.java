@@ -0,0 +1,270 @@
+package com.votex.blockchain.store;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.codec.BlockCodec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.CRC32;
+
+/**
+ * Durable block log kept in append-only segment files under one directory. Every append
+ * is forced to disk before it returns, so a block that has been handed to listeners (and
+ * confirmed to voters) survives a crash or power loss.
+ *
+ * <p>Each record is {@code [int length][int crc32][payload]}, the payload being a
+ * {@link BlockCodec} encoding. New records go to the last segment until it would exceed
+ * the configured size, then a new segment is started. Reads go through read-only memory
+ * maps of the segments, and an in-heap offset index (8 bytes per block) locates any
+ * height without holding blocks themselves in memory.
+ *
+ * <p>On open, segments are scanned to rebuild the index. A torn record at the end of the
+ * last segment (a crash mid-append) is truncated away; damage anywhere else is an error.
+ */
+public class FileBlockStore implements BlockStore {
+    static final int RECORD_HEADER_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    // Packed (segment number << 32 | offset within segment) for each height
+    private long[] locations = new long[1024];
+    private volatile int size;
+
+    public FileBlockStore(Path directory, long segmentBytes) {
+        if (segmentBytes <= RECORD_HEADER_BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + RECORD_HEADER_BYTES
+                    + " and " + Integer.MAX_VALUE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            openSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open block store at " + directory, e);
+        }
+    }
+
+    private void openSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = new Segment(files.get(i));
+            segments.add(segment);
+            scan(segment, i, i == files.size() - 1);
+        }
+    }
+
+    private void scan(Segment segment, int number, boolean last) throws IOException {
+        long fileSize = segment.channel.size();
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        long offset = 0;
+        while (offset < fileSize) {
+            header.clear();
+            int length = -1;
+            int crc = 0;
+            if (fileSize - offset >= RECORD_HEADER_BYTES) {
+                segment.channel.read(header, offset);
+                header.flip();
+                length = header.getInt();
+                crc = header.getInt();
+            }
+            boolean complete = length >= 0 && offset + RECORD_HEADER_BYTES + length <= fileSize;
+            if (!complete || checksum(segment.read(offset + RECORD_HEADER_BYTES, length)) != crc) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt block record in " + segment.path + " at offset " + offset);
+                }
+                segment.channel.truncate(offset);
+                break;
+            }
+            recordLocation(number, offset);
+            offset += RECORD_HEADER_BYTES + length;
+        }
+    }
+
+    @Override
+    public synchronized void append(Block block) {
+        if (block.getIndex() != size) {
+            throw new IllegalArgumentException("Expected block " + size + " but got " + block.getIndex());
+        }
+        byte[] payload = BlockCodec.encode(block);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + payload.length);
+        record.putInt(payload.length);
+        record.putInt(checksum(ByteBuffer.wrap(payload)));
+        record.put(payload);
+        record.flip();
+
+        try {
+            Segment segment = segmentFor(record.remaining());
+            long offset = segment.channel.size();
+            while (record.hasRemaining()) {
+                segment.channel.write(record, offset + record.position());
+            }
+            // On disk before the block becomes visible, and so before any receipt confirms it
+            segment.channel.force(false);
+            recordLocation(segments.size() - 1, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append block " + block.getIndex(), e);
+        }
+    }
+
+    private Segment segmentFor(int recordBytes) throws IOException {
+        if (!segments.isEmpty()) {
+            Segment current = segments.get(segments.size() - 1);
+            long used = current.channel.size();
+            if (used == 0 || used + recordBytes <= segmentBytes) {
+                return current;
+            }
+        }
+        Segment segment = new Segment(directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX)));
+        segments.add(segment);
+        return segment;
+    }
+
+    private void recordLocation(int segment, long offset) {
+        if (size == locations.length) {
+            locations = Arrays.copyOf(locations, size * 2);
+        }
+        locations[size] = ((long) segment << 32) | offset;
+        size++;
+    }
+
+    @Override
+    public Block get(int height) {
+        return BlockCodec.decode(getEncoded(height));
+    }
+
+    /**
+     * Read-only view of the record payload, in the memory map unless the record is newer
+     * than the current mapping.
+     */
+    @Override
+    public ByteBuffer getEncoded(int height) {
+        // Reads take no lock: size is published after the location is written, and a grown
+        // locations array still holds every entry below the size that made it visible
+        int currentSize = size;
+        if (height < 0 || height >= currentSize) {
+            throw new IndexOutOfBoundsException("No block at height " + height + ", store has " + currentSize);
+        }
+        long location = locations[height];
+        Segment segment = segments.get((int) (location >>> 32));
+        int offset = (int) location;
+        try {
+            int length = segment.read(offset, RECORD_HEADER_BYTES).getInt();
+            return segment.read(offset + RECORD_HEADER_BYTES, length).asReadOnlyBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read block " + height, e);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * How many times the segments have been memory-mapped in total.
+     */
+    int mappings() {
+        int total = 0;
+        for (Segment segment : segments) {
+            total += segment.mappings();
+        }
+        return total;
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            try {
+                segment.channel.force(true);
+                segment.channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close segment " + segment.path, e);
+            }
+        }
+        segments.clear();
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private volatile MappedByteBuffer mapped;
+        private int mappings;
+
+        Segment(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * The bytes at {@code [offset, offset + length)}: a view of the memory map when they
+         * are mapped, otherwise a copy read from the channel. The segment is only remapped
+         * once the file has doubled since the last map, so a segment growing one record at
+         * a time is mapped a logarithmic number of times rather than once per append.
+         */
+        ByteBuffer read(long offset, int length) throws IOException {
+            MappedByteBuffer current = mapped;
+            if (current == null || offset + length > current.capacity()) {
+                current = remapIfGrown();
+            }
+            if (offset + length > current.capacity()) {
+                return readCopy(offset, length);
+            }
+            ByteBuffer view = current.duplicate();
+            view.position((int) offset);
+            view.limit((int) offset + length);
+            return view.slice();
+        }
+
+        private synchronized MappedByteBuffer remapIfGrown() throws IOException {
+            long fileSize = channel.size();
+            if (mapped == null || fileSize >= 2L * mapped.capacity()) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+                mappings++;
+            }
+            return mapped;
+        }
+
+        private ByteBuffer readCopy(long offset, int length) throws IOException {
+            ByteBuffer copy = ByteBuffer.allocate(length);
+            while (copy.hasRemaining()) {
+                if (channel.read(copy, offset + copy.position()) < 0) {
+                    throw new EOFException("Record at " + offset + " runs past the end of " + path);
+                }
+            }
+            copy.flip();
+            return copy;
+        }
+
+        synchronized int mappings() {
+            return mappings;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.votex.blockchain.store;
+
+import com.votex.blockchain.Block;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the chain on the heap. Blocks are returned as the same objects that were appended,
+ * which is what in-process callers and tests expect. Nothing survives a restart.
+ *
+ * <p>Appends are serialised; reads take no lock. A block is written into the array before
+ * the volatile size is bumped, so a reader that sees the new size also sees the block.
+ */
+public class MemoryBlockStore implements BlockStore {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private volatile Block[] blocks;
+    private volatile int size;
+
+    public MemoryBlockStore() {
+        this.blocks = new Block[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Starts from a copy of {@code blocks}; later changes to the list are not seen.
+     */
+    public MemoryBlockStore(List<Block> blocks) {
+        Block[] initial = blocks.toArray(new Block[0]);
+        this.blocks = Arrays.copyOf(initial, Math.max(initial.length * 2, INITIAL_CAPACITY));
+        this.size = initial.length;
+    }
+
+    @Override
+    public synchronized void append(Block block) {
+        Block[] current = blocks;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, current.length * 2);
+            blocks = current;
+        }
+        current[size] = block;
+        size = size + 1;
+    }
+
+    @Override
+    public Block get(int height) {
+        if (height < 0 || height >= size) {
+            throw new IndexOutOfBoundsException("No block at height " + height + ", size " + size);
+        }
+        return blocks[height];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+}
@@ -0,0 +1,27 @@
+package com.votex.config;
+
+import com.votex.blockchain.store.BlockStore;
+import com.votex.blockchain.store.FileBlockStore;
+import com.votex.blockchain.store.MemoryBlockStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Paths;
+
+@Configuration
+public class BlockStoreConfig {
+
+    /**
+     * Disk-backed segment log when {@code blockchain.store.path} is set, otherwise the
+     * chain lives on the heap and starts from genesis on every restart.
+     */
+    @Bean
+    public BlockStore blockStore(@Value("${blockchain.store.path:}") String path,
+                                 @Value("${blockchain.store.segment-bytes:67108864}") long segmentBytes) {
+        if (path.isEmpty()) {
+            return new MemoryBlockStore();
+        }
+        return new FileBlockStore(Paths.get(path), segmentBytes);
+    }
+}
@@ -2,6 +2,7 @@ package com.votex.controller;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -25,6 +26,8 @@ public class SecurityConfig {
             .authorizeRequests()
                 .antMatchers("/api/auth/**").permitAll()
                 .antMatchers("/api/public/**").permitAll()
+                .antMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .antMatchers(HttpMethod.GET, "/api/blocks", "/api/blocks/**").permitAll()  // the ledger is public
                 .antMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated().and()
             .sessionManagement()
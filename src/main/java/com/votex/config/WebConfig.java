@@ -1,14 +1,29 @@
 package com.votex.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.servlet.http.HttpServletRequest;
+import java.util.concurrent.Callable;
+
 @Configuration
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
-    
+    static final String EXPORT_PATH = "/api/blocks/export";
+
+    private final long exportTimeoutMillis;
+
+    public WebConfig(@Value("${blockchain.blocks.export-timeout-ms:600000}") long exportTimeoutMillis) {
+        this.exportTimeoutMillis = exportTimeoutMillis;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -17,4 +32,31 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new ExportTimeoutInterceptor(exportTimeoutMillis));
+    }
+
+    /**
+     * Gives streamed chain exports a timeout long enough for a full download. Every other
+     * async request, such as {@code POST /api/votes/async}, keeps the container default.
+     */
+    static final class ExportTimeoutInterceptor implements CallableProcessingInterceptor {
+        private final long timeoutMillis;
+
+        ExportTimeoutInterceptor(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+
+        @Override
+        public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+            // Runs before async processing starts, while the timeout can still be changed
+            HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+            if (request instanceof AsyncWebRequest && servletRequest != null
+                    && servletRequest.getRequestURI().equals(servletRequest.getContextPath() + EXPORT_PATH)) {
+                ((AsyncWebRequest) request).setTimeout(timeoutMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.votex.controller;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockIndex;
+import com.votex.model.BlockPage;
+import com.votex.service.ChainExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+/**
+ * Single-block lookups by height or hash, answered from the {@link BlockIndex} without
+ * walking the chain, plus paged and streamed reads of the whole ledger.
+ */
+@RestController
+@RequestMapping("/api/blocks")
+public class BlockController {
+    static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final BlockIndex blockIndex;
+    private final ChainExportService exportService;
+
+    @Autowired
+    public BlockController(BlockIndex blockIndex, ChainExportService exportService) {
+        this.blockIndex = blockIndex;
+        this.exportService = exportService;
+    }
+
+    /**
+     * Blocks in height order from {@code from}; follow {@code nextFrom} for the next page.
+     */
+    @GetMapping
+    public ResponseEntity<?> getBlocks(@RequestParam(defaultValue = "0") int from,
+                                       @RequestParam(defaultValue = "100") int limit) {
+        try {
+            BlockPage page = exportService.getPage(from, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * The chain from {@code from} to the current tip, streamed as newline-delimited JSON
+     * or, with {@code format=binary}, as length-prefixed block encodings.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "0") int from,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        if ("binary".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .body(out -> exportService.writeBinary(from, out));
+        }
+        if ("ndjson".equals(format)) {
+            return ResponseEntity.ok()
+                    .contentType(NDJSON)
+                    .body(out -> exportService.writeNdjson(from, out));
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    @GetMapping("/{height}")
+    public ResponseEntity<Block> getBlock(@PathVariable int height) {
+        return blockIndex.getBlock(height)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/hash/{hash}")
+    public ResponseEntity<Block> getBlockByHash(@PathVariable String hash) {
+        return blockIndex.getBlockByHash(hash)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
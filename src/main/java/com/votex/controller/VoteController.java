@@ -1,43 +1,129 @@
 package com.votex.controller;
 
 import com.votex.model.Vote;
+import com.votex.model.VoteProof;
+import com.votex.model.VoteReceipt;
+import com.votex.service.ChainExportService;
+import com.votex.service.VoteProofService;
+import com.votex.service.VoteSubmissionPipeline;
 import com.votex.service.VotingService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/votes")
 public class VoteController {
 
     private final VotingService votingService;
+    private final VoteSubmissionPipeline submissionPipeline;
+    private final VoteProofService proofService;
+    private final ChainExportService exportService;
+    private final int maxBatchSize;
 
     @Autowired
-    public VoteController(VotingService votingService) {
+    public VoteController(VotingService votingService, VoteSubmissionPipeline submissionPipeline,
+                          VoteProofService proofService, ChainExportService exportService,
+                          @Value("${blockchain.submission.max-batch-size:1000}") int maxBatchSize) {
         this.votingService = votingService;
+        this.submissionPipeline = submissionPipeline;
+        this.proofService = proofService;
+        this.exportService = exportService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @PostMapping
     public ResponseEntity<?> castVote(@RequestBody Vote vote) {
         try {
-            Vote castedVote = votingService.castVote(vote);
-            return new ResponseEntity<>(castedVote, HttpStatus.CREATED);
+            VoteReceipt receipt = votingService.castVote(vote);
+            return new ResponseEntity<>(receipt, HttpStatus.ACCEPTED);
         } catch (Exception e) {
             return new ResponseEntity<>(Map.of("error", e.getMessage()), HttpStatus.BAD_REQUEST);
         }
     }
 
+    /**
+     * Casts several ballots in one request, verifying their signatures in parallel.
+     * Returns one receipt per ballot in request order; rejected ballots carry a reason.
+     * Batches larger than {@code blockchain.submission.max-batch-size} get 413.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> castVotes(@RequestBody List<Vote> votes) {
+        if (votes.size() > maxBatchSize) {
+            return new ResponseEntity<>(Map.of("error", "Batch exceeds " + maxBatchSize + " ballots"),
+                    HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+        return new ResponseEntity<>(votingService.castVotes(votes), HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Same outcome as {@link #castVote(Vote)}, but the servlet thread is released while the
+     * ballot is verified and persisted. Answers 429 straight away when the pipeline is full;
+     * poll {@code /{id}/receipt} to see the vote confirmed.
+     */
+    @PostMapping("/async")
+    public CompletableFuture<ResponseEntity<?>> castVoteAsync(@RequestBody Vote vote) {
+        CompletableFuture<VoteReceipt> submission;
+        try {
+            submission = submissionPipeline.submit(vote);
+        } catch (VoteSubmissionPipeline.QueueFullException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", "1")
+                    .body(Map.of("error", e.getMessage())));
+        }
+        return submission.handle((receipt, error) -> {
+            if (error == null) {
+                return new ResponseEntity<>(receipt, HttpStatus.ACCEPTED);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            return new ResponseEntity<>(Map.of("error", String.valueOf(cause.getMessage())), HttpStatus.BAD_REQUEST);
+        });
+    }
+
+    /**
+     * Every vote on the chain as a JSON array, streamed a block at a time rather than
+     * collected into one list first.
+     */
     @GetMapping
-    public ResponseEntity<List<Vote>> getAllVotes() {
-        return ResponseEntity.ok(votingService.getAllVotes());
+    public ResponseEntity<StreamingResponseBody> getAllVotes() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(exportService::writeVotes);
+    }
+
+    @GetMapping("/{id}/receipt")
+    public ResponseEntity<VoteReceipt> getReceipt(@PathVariable String id) {
+        return votingService.getReceipt(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Block header and Merkle audit path proving the vote is on the chain. 404 until the
+     * vote has been sealed into a block.
+     */
+    @GetMapping("/{id}/proof")
+    public ResponseEntity<VoteProof> getProof(@PathVariable String id) {
+        return proofService.getProof(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/blockchain/verify")
-    public ResponseEntity<Map<String, Boolean>> verifyBlockchain() {
+    public ResponseEntity<?> verifyBlockchain(@RequestParam(defaultValue = "false") boolean full) {
+        // Default is the cheap incremental check; full=true re-audits from genesis
+        if (full) {
+            return ResponseEntity.ok(votingService.auditBlockchain());
+        }
         boolean isValid = votingService.isBlockchainValid();
         return ResponseEntity.ok(Map.of("valid", isValid));
     }
@@ -0,0 +1,145 @@
+package com.votex.crypto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+
+import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Verifies many signatures at once by splitting the batch across a dedicated pool sized
+ * to the CPU. Each check is independent, so throughput scales with cores. Results come back
+ * in input order; an item whose signature is malformed or fails to verify is simply false.
+ */
+@Component
+public class BatchSignatureVerifier {
+
+    public static final class Item {
+        private final SignatureScheme scheme;
+        private final String data;
+        private final String signature;
+        private final PublicKey publicKey;
+
+        public Item(String data, String signature, PublicKey publicKey) {
+            this(SignatureScheme.RSA_2048, data, signature, publicKey);
+        }
+
+        public Item(SignatureScheme scheme, String data, String signature, PublicKey publicKey) {
+            this.scheme = scheme;
+            this.data = data;
+            this.signature = signature;
+            this.publicKey = publicKey;
+        }
+    }
+
+    private final int threads;
+    private final ExecutorService pool;
+    private final Map<SignatureScheme, Timer> verifyTimers = new EnumMap<>(SignatureScheme.class);
+
+    public BatchSignatureVerifier(int threads) {
+        this(threads, new SimpleMeterRegistry());
+    }
+
+    /**
+     * @param threads verification workers; 0 uses one per available core
+     * @param registry where per-signature verify latency is published, tagged by scheme
+     */
+    @Autowired
+    public BatchSignatureVerifier(@Value("${blockchain.verify-threads:0}") int threads, MeterRegistry registry) {
+        for (SignatureScheme scheme : SignatureScheme.values()) {
+            verifyTimers.put(scheme, Timer.builder("votex.signature.verify")
+                    .description("Time to verify one ballot signature")
+                    .tag("scheme", scheme.name())
+                    .register(registry));
+        }
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(this.threads, task -> {
+            Thread thread = new Thread(task, "sig-verify-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean[] verifyAll(List<Item> items) {
+        boolean[] results = new boolean[items.size()];
+        int chunks = Math.min(threads, items.size());
+        if (chunks <= 1) {
+            verifyRange(items, 0, items.size(), results);
+            return results;
+        }
+
+        // Contiguous slices, one per worker, each writing only its own part of the results
+        List<Callable<Void>> tasks = new ArrayList<>(chunks);
+        for (int c = 0; c < chunks; c++) {
+            int from = (int) ((long) items.size() * c / chunks);
+            int to = (int) ((long) items.size() * (c + 1) / chunks);
+            tasks.add(() -> {
+                verifyRange(items, from, to, results);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying signatures", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Signature verification failed", e.getCause());
+        }
+        return results;
+    }
+
+    private void verifyRange(List<Item> items, int from, int to, boolean[] results) {
+        for (int i = from; i < to; i++) {
+            Item item = items.get(i);
+            try {
+                results[i] = item.signature != null && item.publicKey != null
+                        && verify(item.scheme, item.data, item.signature, item.publicKey);
+            } catch (Exception e) {
+                results[i] = false;
+            }
+        }
+    }
+
+    /**
+     * Verifies a single signature on the calling thread, recording its latency alongside
+     * the batch checks. Errors from a malformed signature or key are passed on.
+     */
+    public boolean verify(SignatureScheme scheme, String data, String signature, PublicKey publicKey)
+            throws Exception {
+        long start = System.nanoTime();
+        try {
+            return scheme.verify(data, signature, publicKey);
+        } finally {
+            verifyTimers.get(scheme).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
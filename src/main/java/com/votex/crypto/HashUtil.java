@@ -1,53 +1,140 @@
 package com.votex.crypto;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class HashUtil {
-    
-    public static String applySha256(String input) {
+
+    public static final int SHA256_LENGTH = 32;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // MessageDigest isn't thread-safe but is costly to look up, so each thread keeps one
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(HashUtil::newSha256Digest);
+
+    public static MessageDigest newSha256Digest() {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-            
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
+            return MessageDigest.getInstance("SHA-256");
         } catch (NoSuchAlgorithmException e) {
             throw new RuntimeException(e);
         }
     }
-    
-    public static String getMerkleRoot(List<String> transactions) {
-        if (transactions == null || transactions.isEmpty()) {
-            return "";
+
+    /**
+     * Returns this thread's SHA-256 digest, reset and ready for use.
+     * Callers must not hand it to another thread.
+     */
+    public static MessageDigest sha256Digest() {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return digest;
+    }
+
+    public static byte[] sha256(byte[] input) {
+        return sha256Digest().digest(input);
+    }
+
+    public static byte[] sha256(byte[] input, int offset, int length) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        return digest.digest();
+    }
+
+    /**
+     * Hashes {@code input[offset, offset + length)} straight into {@code out} without allocating.
+     */
+    public static void sha256(byte[] input, int offset, int length, byte[] out, int outOffset) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input, offset, length);
+        try {
+            digest.digest(out, outOffset, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalArgumentException("Output buffer too small for SHA-256 digest", e);
+        }
+    }
+
+    public static byte[] sha256(ByteBuffer input) {
+        MessageDigest digest = sha256Digest();
+        digest.update(input);
+        return digest.digest();
+    }
+
+    public static String applySha256(String input) {
+        return toHex(sha256(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    public static byte[] fromHex(String hex) {
+        if (hex.length() % 2 != 0) {
+            throw new IllegalArgumentException("Hex string must have an even length");
+        }
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int high = Character.digit(hex.charAt(i * 2), 16);
+            int low = Character.digit(hex.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new IllegalArgumentException("Invalid hex string: " + hex);
+            }
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+        return bytes;
+    }
+
+    /**
+     * Writes the lowercase hex form of {@code bytes} as ASCII into {@code out}, two bytes per input byte.
+     */
+    public static void toHexAscii(byte[] bytes, byte[] out, int outOffset) {
+        toHexAscii(bytes, 0, bytes.length, out, outOffset);
+    }
+
+    /**
+     * Same as {@link #toHexAscii(byte[], byte[], int)} for {@code bytes[offset, offset + length)}.
+     */
+    public static void toHexAscii(byte[] bytes, int offset, int length, byte[] out, int outOffset) {
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[offset + i];
+            out[outOffset + i * 2] = (byte) HEX_DIGITS[(b >> 4) & 0x0f];
+            out[outOffset + i * 2 + 1] = (byte) HEX_DIGITS[b & 0x0f];
         }
-        
-        List<String> treeLayer = transactions.stream()
-            .map(HashUtil::applySha256)
-            .collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-            
-        while (treeLayer.size() > 1) {
-            List<String> newLayer = new ArrayList<>();
-            
-            for (int i = 0; i < treeLayer.size(); i += 2) {
-                if (i + 1 < treeLayer.size()) {
-                    newLayer.add(applySha256(treeLayer.get(i) + treeLayer.get(i + 1)));
-                } else {
-                    newLayer.add(applySha256(treeLayer.get(i) + treeLayer.get(i)));
-                }
+    }
+
+    /**
+     * True if the hex form of {@code hash} would start with {@code count} zeros.
+     */
+    public static boolean hasLeadingZeroNibbles(byte[] hash, int count) {
+        int fullBytes = count / 2;
+        for (int i = 0; i < fullBytes; i++) {
+            if (hash[i] != 0) {
+                return false;
             }
-            
-            treeLayer = newLayer;
         }
-        
-        return treeLayer.isEmpty() ? "" : treeLayer.get(0);
+        return count % 2 == 0 || (hash[fullBytes] & 0xf0) == 0;
+    }
+
+    public static String getMerkleRoot(List<String> transactions) {
+        byte[] root = getMerkleRootBytes(transactions);
+        return root == null ? "" : toHex(root);
+    }
+
+    /**
+     * Raw 32-byte Merkle root, or {@code null} for no transactions. Parents are hashed
+     * over the hex text of their children, so the hex of this value matches the
+     * string-based tree the chain has always used. Large blocks are built in parallel;
+     * see {@link MerkleTree}.
+     */
+    public static byte[] getMerkleRootBytes(List<String> transactions) {
+        return MerkleTree.root(transactions);
     }
-}
\ No newline at end of file
+}
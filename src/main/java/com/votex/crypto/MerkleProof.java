@@ -0,0 +1,92 @@
+package com.votex.crypto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inclusion proof for one transaction in a block: the sibling hashes on the way from its
+ * leaf to the Merkle root. Anyone holding the transaction and the block's Merkle root can
+ * check it with {@link #verify(String, String)} in O(log n) hashes, without the rest of
+ * the block. Hashes are the same hex strings the chain uses, so no other library is needed
+ * to follow the path by hand.
+ */
+public class MerkleProof {
+
+    public static class Step {
+        private String hash;
+        private boolean left;
+
+        public Step() {
+        }
+
+        public Step(String hash, boolean left) {
+            this.hash = hash;
+            this.left = left;
+        }
+
+        public String getHash() {
+            return hash;
+        }
+
+        public void setHash(String hash) {
+            this.hash = hash;
+        }
+
+        /**
+         * True if the sibling sits to the left, i.e. is hashed before the running value.
+         */
+        public boolean isLeft() {
+            return left;
+        }
+
+        public void setLeft(boolean left) {
+            this.left = left;
+        }
+    }
+
+    private int leafIndex;
+    private List<Step> path = new ArrayList<>();
+
+    public MerkleProof() {
+    }
+
+    public MerkleProof(int leafIndex, List<Step> path) {
+        this.leafIndex = leafIndex;
+        this.path = path;
+    }
+
+    /**
+     * The root that {@code transaction} leads to along this path.
+     */
+    public String rootFor(String transaction) {
+        String hash = HashUtil.applySha256(transaction);
+        for (Step step : path) {
+            hash = step.isLeft() ? HashUtil.applySha256(step.getHash() + hash)
+                                 : HashUtil.applySha256(hash + step.getHash());
+        }
+        return hash;
+    }
+
+    /**
+     * True if {@code transaction} is included under {@code merkleRoot} by this path.
+     */
+    public boolean verify(String transaction, String merkleRoot) {
+        return transaction != null && merkleRoot != null && merkleRoot.equals(rootFor(transaction));
+    }
+
+    public int getLeafIndex() {
+        return leafIndex;
+    }
+
+    public void setLeafIndex(int leafIndex) {
+        this.leafIndex = leafIndex;
+    }
+
+    public List<Step> getPath() {
+        return path;
+    }
+
+    public void setPath(List<Step> path) {
+        this.path = path;
+    }
+}
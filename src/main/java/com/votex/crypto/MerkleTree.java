@@ -0,0 +1,200 @@
+package com.votex.crypto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Builds the chain's Merkle root over a flat array of 32-byte digests, one slot per leaf.
+ * Each parent is written over its left child's slot, so the tree needs no memory beyond
+ * the leaves. The tree is cut into aligned power-of-two subtrees that do not depend on
+ * each other; above {@link #SEQUENTIAL_THRESHOLD} leaves they are hashed on the common
+ * ForkJoinPool and joined pairwise.
+ *
+ * <p>An odd node at any level is paired with itself, as in the layer-by-layer tree. For
+ * the partial subtree at the right edge this means its root keeps pairing with itself
+ * up to the subtree's full height, which is exactly what the layered build does to the
+ * last node of an odd layer, so both produce the same root.
+ *
+ * <p>{@link #root(List)} keeps nothing but the root. When inclusion proofs are needed,
+ * {@link #build(List)} keeps every level so any number of paths can be read off it.
+ */
+public final class MerkleTree {
+    // Subtrees with at most this many leaves are built inline instead of being split further
+    static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private static final int DIGEST = HashUtil.SHA256_LENGTH;
+    private static final int HEX_DIGEST = DIGEST * 2;
+
+    // levels[0] holds the leaf digests, each level above half as many (rounded up), the last one the root
+    private final byte[][] levels;
+
+    private MerkleTree(byte[][] levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Builds and keeps the whole tree over {@code transactions}, for reading inclusion proofs.
+     *
+     * @throws IllegalArgumentException if there are no transactions
+     */
+    public static MerkleTree build(List<String> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            throw new IllegalArgumentException("A Merkle tree needs at least one transaction");
+        }
+        int count = transactions.size();
+        int height = 1;
+        for (int width = 1; width < count; width <<= 1) {
+            height++;
+        }
+
+        byte[][] levels = new byte[height][];
+        levels[0] = new byte[count * DIGEST];
+        for (int i = 0; i < count; i++) {
+            byte[] leaf = transactions.get(i).getBytes(StandardCharsets.UTF_8);
+            HashUtil.sha256(leaf, 0, leaf.length, levels[0], i * DIGEST);
+        }
+
+        byte[] pair = new byte[HEX_DIGEST * 2];
+        for (int level = 1; level < height; level++) {
+            byte[] below = levels[level - 1];
+            int nodes = below.length / DIGEST;
+            byte[] current = new byte[(nodes + 1) / 2 * DIGEST];
+            for (int p = 0; p < (nodes + 1) / 2; p++) {
+                int left = 2 * p;
+                int right = left + 1 < nodes ? left + 1 : left;
+                HashUtil.toHexAscii(below, left * DIGEST, DIGEST, pair, 0);
+                HashUtil.toHexAscii(below, right * DIGEST, DIGEST, pair, HEX_DIGEST);
+                HashUtil.sha256(pair, 0, pair.length, current, p * DIGEST);
+            }
+            levels[level] = current;
+        }
+        return new MerkleTree(levels);
+    }
+
+    public int getLeafCount() {
+        return levels[0].length / DIGEST;
+    }
+
+    public byte[] getRoot() {
+        return levels[levels.length - 1].clone();
+    }
+
+    /**
+     * The audit path for the leaf at {@code leafIndex}: one sibling per level, from the
+     * leaf's sibling up to the root's children.
+     */
+    public MerkleProof proof(int leafIndex) {
+        if (leafIndex < 0 || leafIndex >= getLeafCount()) {
+            throw new IndexOutOfBoundsException("Leaf " + leafIndex + " of " + getLeafCount());
+        }
+        List<MerkleProof.Step> path = new ArrayList<>(levels.length - 1);
+        int index = leafIndex;
+        for (int level = 0; level < levels.length - 1; level++) {
+            int nodes = levels[level].length / DIGEST;
+            // A lone node at the end of an odd level is its own sibling
+            int sibling = Math.min(index ^ 1, nodes - 1);
+            byte[] digest = Arrays.copyOfRange(levels[level], sibling * DIGEST, (sibling + 1) * DIGEST);
+            path.add(new MerkleProof.Step(HashUtil.toHex(digest), (index & 1) == 1));
+            index >>= 1;
+        }
+        return new MerkleProof(leafIndex, path);
+    }
+
+    /**
+     * Raw 32-byte root of {@code transactions}, or {@code null} if there are none.
+     */
+    public static byte[] root(List<String> transactions) {
+        return root(transactions, SEQUENTIAL_THRESHOLD);
+    }
+
+    static byte[] root(List<String> transactions, int threshold) {
+        if (transactions == null || transactions.isEmpty()) {
+            return null;
+        }
+        int count = transactions.size();
+        byte[] nodes = new byte[count * DIGEST];
+        int width = count == 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+
+        if (count <= threshold) {
+            buildInline(transactions, nodes, 0, count, width);
+        } else {
+            ForkJoinPool.commonPool().invoke(new SubtreeTask(transactions, nodes, 0, width, threshold));
+        }
+        return Arrays.copyOf(nodes, DIGEST);
+    }
+
+    /**
+     * Hashes {@code leaves} transactions starting at {@code from} and reduces them to the
+     * root of a subtree {@code width} leaves wide, left in slot {@code from}.
+     */
+    private static void buildInline(List<String> transactions, byte[] nodes, int from, int leaves, int width) {
+        for (int i = 0; i < leaves; i++) {
+            byte[] leaf = transactions.get(from + i).getBytes(StandardCharsets.UTF_8);
+            HashUtil.sha256(leaf, 0, leaf.length, nodes, (from + i) * DIGEST);
+        }
+
+        byte[] pair = new byte[HEX_DIGEST * 2];
+        int level = leaves;
+        for (int span = 1; span < width; span <<= 1) {
+            int parents = (level + 1) / 2;
+            for (int p = 0; p < parents; p++) {
+                int left = from + 2 * p;
+                int right = 2 * p + 1 < level ? left + 1 : left;
+                hashPair(nodes, left, right, from + p, pair);
+            }
+            level = parents;
+        }
+    }
+
+    /**
+     * Writes the hash of the hex text of slots {@code left} and {@code right} into slot
+     * {@code target}. Both children are read before the parent is written, so the target
+     * may be one of them.
+     */
+    private static void hashPair(byte[] nodes, int left, int right, int target, byte[] pair) {
+        HashUtil.toHexAscii(nodes, left * DIGEST, DIGEST, pair, 0);
+        HashUtil.toHexAscii(nodes, right * DIGEST, DIGEST, pair, HEX_DIGEST);
+        HashUtil.sha256(pair, 0, pair.length, nodes, target * DIGEST);
+    }
+
+    private static final class SubtreeTask extends RecursiveAction {
+        private final List<String> transactions;
+        private final byte[] nodes;
+        private final int from;
+        private final int width;
+        private final int threshold;
+
+        SubtreeTask(List<String> transactions, byte[] nodes, int from, int width, int threshold) {
+            this.transactions = transactions;
+            this.nodes = nodes;
+            this.from = from;
+            this.width = width;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int leaves = Math.min(width, transactions.size() - from);
+            if (leaves <= threshold) {
+                buildInline(transactions, nodes, from, leaves, width);
+                return;
+            }
+
+            int half = width >>> 1;
+            int rightFrom = from + half;
+            SubtreeTask left = new SubtreeTask(transactions, nodes, from, half, threshold);
+            if (rightFrom < transactions.size()) {
+                invokeAll(left, new SubtreeTask(transactions, nodes, rightFrom, half, threshold));
+                hashPair(nodes, from, rightFrom, from, new byte[HEX_DIGEST * 2]);
+            } else {
+                // Nothing on the right: the left subtree's root is paired with itself
+                left.compute();
+                hashPair(nodes, from, from, from, new byte[HEX_DIGEST * 2]);
+            }
+        }
+    }
+}
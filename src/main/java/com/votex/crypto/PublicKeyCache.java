@@ -0,0 +1,94 @@
+package com.votex.crypto;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parsed voter public keys, so a signature check doesn't Base64-decode and rebuild the
+ * X.509 key every time. Entries are keyed by voter ID and remember the encoded key they
+ * were parsed from: if a voter's stored key changes, the next lookup sees the mismatch
+ * and parses the new one, so a rotated key never verifies against a stale entry. Holds
+ * at most {@code maxEntries} keys, evicting the least recently used.
+ */
+@Component
+public class PublicKeyCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<String, Entry> entries;
+    private long hits;
+    private long misses;
+
+    public PublicKeyCache(@Value("${blockchain.key-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > PublicKeyCache.this.maxEntries;
+            }
+        };
+    }
+
+    public PublicKey get(String voterId, String encodedKey) throws Exception {
+        return get(voterId, SignatureScheme.RSA_2048, encodedKey);
+    }
+
+    /**
+     * The parsed form of {@code encodedKey} for this voter, parsing and caching it if the
+     * cache has nothing for the voter or holds a different key or scheme.
+     */
+    public PublicKey get(String voterId, SignatureScheme scheme, String encodedKey) throws Exception {
+        synchronized (this) {
+            Entry entry = entries.get(voterId);
+            if (entry != null && entry.scheme == scheme && entry.encodedKey.equals(encodedKey)) {
+                hits++;
+                return entry.publicKey;
+            }
+            misses++;
+        }
+        // Parse outside the lock; two threads racing on the same voter just both parse
+        PublicKey publicKey = scheme.decodePublicKey(encodedKey);
+        synchronized (this) {
+            entries.put(voterId, new Entry(scheme, encodedKey, publicKey));
+        }
+        return publicKey;
+    }
+
+    /**
+     * Drops the voter's cached key, e.g. after the key on record is replaced or revoked.
+     */
+    public synchronized void invalidate(String voterId) {
+        entries.remove(voterId);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    private static final class Entry {
+        final SignatureScheme scheme;
+        final String encodedKey;
+        final PublicKey publicKey;
+
+        Entry(SignatureScheme scheme, String encodedKey, PublicKey publicKey) {
+            this.scheme = scheme;
+            this.encodedKey = encodedKey;
+            this.publicKey = publicKey;
+        }
+    }
+}
@@ -2,20 +2,16 @@ package com.votex.crypto;
 
 import java.nio.charset.StandardCharsets;
 import java.security.*;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
 import java.util.Base64;
 import javax.crypto.Cipher;
 
 public class RSAUtil {
     
     private static final String ALGORITHM = "RSA";
-    private static final int KEY_SIZE = 2048;
+    private static final SignatureScheme SCHEME = SignatureScheme.RSA_2048;
     
     public static KeyPair generateKeyPair() throws Exception {
-        KeyPairGenerator generator = KeyPairGenerator.getInstance(ALGORITHM);
-        generator.initialize(KEY_SIZE, new SecureRandom());
-        return generator.generateKeyPair();
+        return SCHEME.generateKeyPair();
     }
     
     public static String getPublicKeyString(PublicKey publicKey) {
@@ -27,17 +23,11 @@ public class RSAUtil {
     }
     
     public static PublicKey getPublicKeyFromString(String publicKeyString) throws Exception {
-        byte[] keyBytes = Base64.getDecoder().decode(publicKeyString);
-        X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
-        return keyFactory.generatePublic(spec);
+        return SCHEME.decodePublicKey(publicKeyString);
     }
     
     public static PrivateKey getPrivateKeyFromString(String privateKeyString) throws Exception {
-        byte[] keyBytes = Base64.getDecoder().decode(privateKeyString);
-        PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(keyBytes);
-        KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
-        return keyFactory.generatePrivate(spec);
+        return SCHEME.decodePrivateKey(privateKeyString);
     }
     
     public static String encrypt(String data, PublicKey publicKey) throws Exception {
@@ -59,21 +49,10 @@ public class RSAUtil {
     }
     
     public static String sign(String data, PrivateKey privateKey) throws Exception {
-        Signature signature = Signature.getInstance("SHA256withRSA");
-        signature.initSign(privateKey);
-        signature.update(data.getBytes(StandardCharsets.UTF_8));
-        
-        byte[] signatureBytes = signature.sign();
-        return Base64.getEncoder().encodeToString(signatureBytes);
+        return SCHEME.sign(data, privateKey);
     }
     
     public static boolean verify(String data, String signatureString, PublicKey publicKey) throws Exception {
-        byte[] signatureBytes = Base64.getDecoder().decode(signatureString);
-        
-        Signature signature = Signature.getInstance("SHA256withRSA");
-        signature.initVerify(publicKey);
-        signature.update(data.getBytes(StandardCharsets.UTF_8));
-        
-        return signature.verify(signatureBytes);
+        return SCHEME.verify(data, signatureString, publicKey);
     }
-}
\ No newline at end of file
+}
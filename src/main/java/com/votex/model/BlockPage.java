@@ -0,0 +1,52 @@
+package com.votex.model;
+
+import com.votex.blockchain.Block;
+
+import java.util.List;
+
+/**
+ * One page of blocks in height order. {@code nextFrom} is the height to ask for next, or
+ * null once the page reaches the tip the chain had when it was read.
+ */
+public class BlockPage {
+
+    private List<Block> blocks;
+    private Integer nextFrom;
+    private int height;
+
+    public BlockPage() {
+    }
+
+    public BlockPage(List<Block> blocks, Integer nextFrom, int height) {
+        this.blocks = blocks;
+        this.nextFrom = nextFrom;
+        this.height = height;
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    public void setBlocks(List<Block> blocks) {
+        this.blocks = blocks;
+    }
+
+    public Integer getNextFrom() {
+        return nextFrom;
+    }
+
+    public void setNextFrom(Integer nextFrom) {
+        this.nextFrom = nextFrom;
+    }
+
+    /**
+     * Number of blocks on the chain when the page was read.
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+}
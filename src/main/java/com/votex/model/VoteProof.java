@@ -0,0 +1,96 @@
+package com.votex.model;
+
+import com.votex.crypto.MerkleProof;
+
+/**
+ * Everything a voter needs to check that their ballot is on the chain: the transaction as
+ * it was sealed, the header of the block holding it, and the Merkle path from the
+ * transaction to that block's root.
+ */
+public class VoteProof {
+
+    private String voteId;
+    private String transaction;
+    private int blockIndex;
+    private long timestamp;
+    private String previousHash;
+    private String merkleRoot;
+    private int nonce;
+    private String blockHash;
+    private MerkleProof proof;
+
+    public VoteProof() {
+    }
+
+    public String getVoteId() {
+        return voteId;
+    }
+
+    public void setVoteId(String voteId) {
+        this.voteId = voteId;
+    }
+
+    public String getTransaction() {
+        return transaction;
+    }
+
+    public void setTransaction(String transaction) {
+        this.transaction = transaction;
+    }
+
+    public int getBlockIndex() {
+        return blockIndex;
+    }
+
+    public void setBlockIndex(int blockIndex) {
+        this.blockIndex = blockIndex;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getPreviousHash() {
+        return previousHash;
+    }
+
+    public void setPreviousHash(String previousHash) {
+        this.previousHash = previousHash;
+    }
+
+    public String getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    public void setMerkleRoot(String merkleRoot) {
+        this.merkleRoot = merkleRoot;
+    }
+
+    public int getNonce() {
+        return nonce;
+    }
+
+    public void setNonce(int nonce) {
+        this.nonce = nonce;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    public void setBlockHash(String blockHash) {
+        this.blockHash = blockHash;
+    }
+
+    public MerkleProof getProof() {
+        return proof;
+    }
+
+    public void setProof(MerkleProof proof) {
+        this.proof = proof;
+    }
+}
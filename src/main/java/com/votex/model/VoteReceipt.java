@@ -0,0 +1,81 @@
+package com.votex.model;
+
+public class VoteReceipt {
+
+    public enum Status {
+        PENDING,
+        CONFIRMED,
+        REJECTED
+    }
+
+    private String voteId;
+    private Status status;
+    private Integer blockIndex;
+    private String blockHash;
+    private String reason;
+
+    public VoteReceipt() {
+    }
+
+    public VoteReceipt(String voteId, Status status) {
+        this.voteId = voteId;
+        this.status = status;
+    }
+
+    public static VoteReceipt pending(String voteId) {
+        return new VoteReceipt(voteId, Status.PENDING);
+    }
+
+    public static VoteReceipt confirmed(String voteId, int blockIndex, String blockHash) {
+        VoteReceipt receipt = new VoteReceipt(voteId, Status.CONFIRMED);
+        receipt.setBlockIndex(blockIndex);
+        receipt.setBlockHash(blockHash);
+        return receipt;
+    }
+
+    public static VoteReceipt rejected(String voteId, String reason) {
+        VoteReceipt receipt = new VoteReceipt(voteId, Status.REJECTED);
+        receipt.setReason(reason);
+        return receipt;
+    }
+
+    public String getVoteId() {
+        return voteId;
+    }
+
+    public void setVoteId(String voteId) {
+        this.voteId = voteId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Integer getBlockIndex() {
+        return blockIndex;
+    }
+
+    public void setBlockIndex(Integer blockIndex) {
+        this.blockIndex = blockIndex;
+    }
+
+    public String getBlockHash() {
+        return blockHash;
+    }
+
+    public void setBlockHash(String blockHash) {
+        this.blockHash = blockHash;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
@@ -1,9 +1,13 @@
 package com.votex.model;
 
+import com.votex.crypto.SignatureScheme;
+
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
@@ -19,7 +23,12 @@ public class Voter {
     @Column(nullable = false, unique = true)
     private String email;
     
+    // Base64 X.509; an RSA-2048 key alone is 392 characters
+    @Column(length = 1024)
     private String publicKey;
+    // Scheme the public key belongs to; rows from before schemes existed are RSA
+    @Enumerated(EnumType.STRING)
+    private SignatureScheme signatureScheme;
     private boolean hasVoted;
     private boolean verified;
     private LocalDateTime registrationDate;
@@ -68,6 +77,14 @@ public class Voter {
         this.publicKey = publicKey;
     }
 
+    public SignatureScheme getSignatureScheme() {
+        return signatureScheme != null ? signatureScheme : SignatureScheme.RSA_2048;
+    }
+
+    public void setSignatureScheme(SignatureScheme signatureScheme) {
+        this.signatureScheme = signatureScheme;
+    }
+
     public boolean isHasVoted() {
         return hasVoted;
     }
@@ -2,11 +2,23 @@ package com.votex.repository;
 
 import com.votex.model.Candidate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, String> {
     List<Candidate> findByElectionId(String electionId);
+
+    /**
+     * Adds {@code delta} to the stored count in place, without reading the row first.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Candidate c SET c.voteCount = c.voteCount + :delta WHERE c.id = :id")
+    int addVotes(@Param("id") String id, @Param("delta") int delta);
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package com.votex.repository;
 
 import com.votex.model.Voter;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +15,15 @@ import java.util.Optional;
 public interface VoterRepository extends JpaRepository<Voter, String> {
     List<Voter> findByVerified(boolean verified);
     Optional<Voter> findByEmail(String email);
+
+    /**
+     * Flags the voter as having voted, but only if they hadn't already. The check and the
+     * write are one statement, so of two concurrent ballots exactly one sees a row updated.
+     *
+     * @return 1 if this call recorded the vote, 0 if the voter had already voted or doesn't exist
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Voter v SET v.hasVoted = true WHERE v.id = :id AND v.hasVoted = false")
+    int markVoted(@Param("id") String id);
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.votex.service;
+
+import com.votex.repository.CandidateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts votes per candidate in memory and folds them into the {@code candidates} table
+ * periodically, so concurrent ballots never contend on the same row. Each flush writes one
+ * relative update per candidate that gained votes since the last one. The stored
+ * {@code voteCount} trails by at most one flush interval; {@link #getVoteCount} adds the
+ * unflushed part for an exact figure.
+ *
+ * <p>Unflushed deltas live only in memory. A crash loses them even though the voters
+ * behind them are already marked as having voted, so the stored count can fall short;
+ * {@link com.votex.blockchain.TallyIndex}, rebuilt from the chain, stays authoritative.
+ */
+@Service
+public class CandidateTallyService {
+
+    private static final Logger log = LoggerFactory.getLogger(CandidateTallyService.class);
+
+    private final CandidateRepository candidateRepository;
+    private final long flushIntervalMillis;
+    private final ConcurrentHashMap<String, LongAdder> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flusher;
+
+    @Autowired
+    public CandidateTallyService(CandidateRepository candidateRepository,
+                                 @Value("${blockchain.tally.flush-interval-ms:1000}") long flushIntervalMillis) {
+        this.candidateRepository = candidateRepository;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "tally-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        // Don't lose whatever arrived since the last scheduled flush
+        flush();
+    }
+
+    public void increment(String candidateId) {
+        pending.computeIfAbsent(candidateId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Stored count plus votes not yet flushed.
+     */
+    public long getVoteCount(String candidateId) {
+        long stored = candidateRepository.findById(candidateId).map(candidate -> (long) candidate.getVoteCount()).orElse(0L);
+        return stored + getPendingCount(candidateId);
+    }
+
+    public long getPendingCount(String candidateId) {
+        LongAdder count = pending.get(candidateId);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Writes every pending delta to the database. A delta whose write fails is put back
+     * and retried on the next flush.
+     */
+    public synchronized void flush() {
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                // The column is an int; fail rather than write a wrapped delta
+                candidateRepository.addVotes(entry.getKey(), Math.toIntExact(delta));
+            } catch (RuntimeException e) {
+                entry.getValue().add(delta);
+                throw e;
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Candidate tally flush failed, will retry: {}", e.getMessage());
+        }
+    }
+}
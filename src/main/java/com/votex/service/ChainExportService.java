@@ -0,0 +1,132 @@
+package com.votex.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.store.BlockStore;
+import com.votex.model.BlockPage;
+import com.votex.model.Vote;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Service;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the chain out for observers: a page of blocks at a time, or the whole ledger
+ * streamed to an {@link OutputStream}. Streams read one block at a time from the block
+ * store, so only the block being written is on the heap however long the chain is.
+ *
+ * <p>An export covers the blocks from {@code from} up to the tip at the moment it starts.
+ * The binary form is the {@code VXBX} magic and a format version (int), followed by one
+ * {@code [int length][payload]} record per block, the payload being its
+ * {@link com.votex.blockchain.codec.BlockCodec} encoding.
+ */
+@Service
+public class ChainExportService {
+    public static final byte[] BINARY_MAGIC = "VXBX".getBytes(StandardCharsets.US_ASCII);
+    public static final int BINARY_VERSION = 1;
+
+    private final Blockchain blockchain;
+    private final ObjectWriter writer;
+    private final int maxPageSize;
+
+    /**
+     * Serializes with the same Jackson settings as the MVC message converters, so streamed
+     * JSON looks like the rest of the API (e.g. timestamps as arrays).
+     */
+    @Autowired
+    public ChainExportService(Blockchain blockchain,
+                              @Value("${blockchain.blocks.max-page-size:500}") int maxPageSize) {
+        this(blockchain, Jackson2ObjectMapperBuilder.json().build(), maxPageSize);
+    }
+
+    public ChainExportService(Blockchain blockchain, ObjectMapper objectMapper, int maxPageSize) {
+        this.blockchain = blockchain;
+        this.writer = objectMapper.writer();
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Up to {@code limit} blocks starting at height {@code from}; {@code limit} is capped
+     * at the configured maximum page size.
+     */
+    public BlockPage getPage(int from, int limit) {
+        if (from < 0 || limit < 1) {
+            throw new IllegalArgumentException("from must be at least 0 and limit at least 1");
+        }
+        List<Block> chain = blockchain.getChain();
+        int height = chain.size();
+        int end = (int) Math.min(height, (long) from + Math.min(limit, maxPageSize));
+        List<Block> blocks = new ArrayList<>(Math.max(end - from, 0));
+        for (int i = from; i < end; i++) {
+            blocks.add(chain.get(i));
+        }
+        return new BlockPage(blocks, end < height ? end : null, height);
+    }
+
+    /**
+     * Writes blocks from {@code from} as newline-delimited JSON, one block per line.
+     */
+    public void writeNdjson(int from, OutputStream out) throws IOException {
+        BlockStore store = blockchain.getStore();
+        int end = store.size();
+        for (int i = Math.max(from, 0); i < end; i++) {
+            out.write(writer.writeValueAsBytes(store.get(i)));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    /**
+     * Writes blocks from {@code from} in the binary export format, copying each block's
+     * stored encoding without decoding it.
+     */
+    public void writeBinary(int from, OutputStream out) throws IOException {
+        BlockStore store = blockchain.getStore();
+        int end = store.size();
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(BINARY_MAGIC);
+        data.writeInt(BINARY_VERSION);
+        WritableByteChannel channel = Channels.newChannel(data);
+        for (int i = Math.max(from, 0); i < end; i++) {
+            ByteBuffer encoded = store.getEncoded(i);
+            data.writeInt(encoded.remaining());
+            while (encoded.hasRemaining()) {
+                channel.write(encoded);
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes every vote on the chain as one JSON array, a block at a time.
+     */
+    public void writeVotes(OutputStream out) throws IOException {
+        BlockStore store = blockchain.getStore();
+        int end = store.size();
+        boolean first = true;
+        out.write('[');
+        for (int i = 0; i < end; i++) {
+            for (Vote vote : store.get(i).getVotes()) {
+                if (!first) {
+                    out.write(',');
+                }
+                out.write(writer.writeValueAsBytes(vote));
+                first = false;
+            }
+        }
+        out.write(']');
+        out.flush();
+    }
+}
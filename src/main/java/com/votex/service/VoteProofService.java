@@ -0,0 +1,75 @@
+package com.votex.service;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockIndex;
+import com.votex.crypto.MerkleTree;
+import com.votex.model.VoteProof;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Merkle inclusion proofs for sealed votes. The block and leaf are found through the
+ * {@link BlockIndex}, so lookups cost the same however long the chain is. Full
+ * trees are kept for the {@code maxTrees} most recently used blocks, so proofs for votes
+ * in the same block only hash that block once.
+ */
+@Service
+public class VoteProofService {
+
+    private final BlockIndex blockIndex;
+    private final int maxTrees;
+    private final LinkedHashMap<String, MerkleTree> trees;
+
+    public VoteProofService(BlockIndex blockIndex,
+                            @Value("${blockchain.proof-cache.max-entries:64}") int maxTrees) {
+        this.blockIndex = blockIndex;
+        this.maxTrees = maxTrees;
+        this.trees = new LinkedHashMap<String, MerkleTree>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MerkleTree> eldest) {
+                return size() > VoteProofService.this.maxTrees;
+            }
+        };
+    }
+
+    /**
+     * The proof for {@code voteId}, or empty if no sealed block holds that vote yet.
+     */
+    public Optional<VoteProof> getProof(String voteId) {
+        return blockIndex.findVote(voteId).flatMap(location -> blockIndex.getBlock(location.getHeight())
+                .map(block -> toProof(voteId, block, location.getPosition())));
+    }
+
+    private VoteProof toProof(String voteId, Block block, int leafIndex) {
+        VoteProof proof = new VoteProof();
+        proof.setVoteId(voteId);
+        proof.setTransaction(block.getTransactions().get(leafIndex));
+        proof.setBlockIndex(block.getIndex());
+        proof.setTimestamp(block.getTimestamp());
+        proof.setPreviousHash(block.getPreviousHash());
+        proof.setMerkleRoot(block.getMerkleRoot());
+        proof.setNonce(block.getNonce());
+        proof.setBlockHash(block.getHash());
+        proof.setProof(treeFor(block).proof(leafIndex));
+        return proof;
+    }
+
+    private MerkleTree treeFor(Block block) {
+        synchronized (trees) {
+            MerkleTree tree = trees.get(block.getHash());
+            if (tree != null) {
+                return tree;
+            }
+        }
+        // Build outside the lock; two requests racing on the same block just both build it
+        MerkleTree tree = MerkleTree.build(block.getTransactions());
+        synchronized (trees) {
+            trees.put(block.getHash(), tree);
+        }
+        return tree;
+    }
+}
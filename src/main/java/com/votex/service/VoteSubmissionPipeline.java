@@ -0,0 +1,105 @@
+package com.votex.service;
+
+import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs vote submission off the request thread. Ballots are staged into a bounded queue and
+ * worked by a small pool that verifies, persists and hands them to the {@code VotePool};
+ * the block assembler confirms them later. A second ballot from a voter whose first one is
+ * still in the pipeline is turned away up front, and a full queue is refused immediately
+ * rather than letting callers pile up.
+ */
+@Service
+public class VoteSubmissionPipeline {
+
+    private final VotingService votingService;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inFlightVoters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param workers number of submission workers; 0 uses one per available core
+     * @param queueCapacity ballots that may wait for a worker before submissions are refused
+     */
+    @Autowired
+    public VoteSubmissionPipeline(VotingService votingService,
+                                  @Value("${blockchain.submission.workers:0}") int workers,
+                                  @Value("${blockchain.submission.queue-capacity:10000}") int queueCapacity) {
+        this.votingService = votingService;
+        int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "vote-submit-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stages a ballot. The future completes with the pending receipt once the vote is
+     * queued for a block, or exceptionally if it is rejected.
+     *
+     * @throws QueueFullException if the pipeline has no room; nothing was staged
+     */
+    public CompletableFuture<VoteReceipt> submit(Vote vote) {
+        String voterId = vote.getVoterId();
+        if (voterId == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Vote has no voter"));
+        }
+        if (!inFlightVoters.add(voterId)) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("A vote from this voter is already being processed"));
+        }
+
+        CompletableFuture<VoteReceipt> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(votingService.castVote(vote));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    inFlightVoters.remove(voterId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlightVoters.remove(voterId);
+            throw new QueueFullException("Vote submission queue is full, retry shortly");
+        }
+        return result;
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Let staged ballots reach the vote pool before the assembler seals its last block
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public static class QueueFullException extends RuntimeException {
+        public QueueFullException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,46 +1,172 @@
 package com.votex.service;
 
 import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockIndex;
 import com.votex.blockchain.Blockchain;
-import com.votex.crypto.RSAUtil;
-import com.votex.model.Candidate;
+import com.votex.blockchain.ChainAuditResult;
+import com.votex.blockchain.TallyIndex;
+import com.votex.blockchain.VotePool;
+import com.votex.blockchain.VotedVoterIndex;
+import com.votex.crypto.BatchSignatureVerifier;
+import com.votex.crypto.PublicKeyCache;
+import com.votex.crypto.SignatureScheme;
 import com.votex.model.Election;
 import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
 import com.votex.model.Voter;
 import com.votex.repository.CandidateRepository;
 import com.votex.repository.ElectionRepository;
 import com.votex.repository.VoterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.security.PublicKey;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 public class VotingService {
 
     private final Blockchain blockchain;
+    private final VotePool votePool;
+    private final TallyIndex tallyIndex;
+    private final BlockIndex blockIndex;
+    private final VotedVoterIndex votedVoters;
+    private final PublicKeyCache publicKeyCache;
+    private final BatchSignatureVerifier signatureVerifier;
+    private final CandidateTallyService candidateTally;
     private final VoterRepository voterRepository;
     private final ElectionRepository electionRepository;
     private final CandidateRepository candidateRepository;
+    private final Counter acceptedVotes;
+    private final Counter rejectedVotes;
 
     @Autowired
-    public VotingService(Blockchain blockchain, VoterRepository voterRepository, 
-                        ElectionRepository electionRepository, CandidateRepository candidateRepository) {
+    public VotingService(Blockchain blockchain, VotePool votePool, TallyIndex tallyIndex, BlockIndex blockIndex,
+                        VotedVoterIndex votedVoters, PublicKeyCache publicKeyCache, BatchSignatureVerifier signatureVerifier,
+                        CandidateTallyService candidateTally, VoterRepository voterRepository,
+                        ElectionRepository electionRepository, CandidateRepository candidateRepository,
+                        MeterRegistry registry) {
         this.blockchain = blockchain;
+        this.votePool = votePool;
+        this.tallyIndex = tallyIndex;
+        this.blockIndex = blockIndex;
+        this.votedVoters = votedVoters;
+        this.publicKeyCache = publicKeyCache;
+        this.signatureVerifier = signatureVerifier;
+        this.candidateTally = candidateTally;
         this.voterRepository = voterRepository;
         this.electionRepository = electionRepository;
         this.candidateRepository = candidateRepository;
+        this.acceptedVotes = Counter.builder("votex.votes.accepted")
+                .description("Ballots accepted into the vote pool")
+                .register(registry);
+        this.rejectedVotes = Counter.builder("votex.votes.rejected")
+                .description("Ballots turned away as ineligible or badly signed")
+                .register(registry);
     }
 
-    public Vote castVote(Vote vote) throws Exception {
-        // Verify voter eligibility
+    public VoteReceipt castVote(Vote vote) throws Exception {
+        try {
+            VoteReceipt receipt = verifyAndAccept(vote);
+            acceptedVotes.increment();
+            return receipt;
+        } catch (IllegalStateException e) {
+            rejectedVotes.increment();
+            throw e;
+        }
+    }
+
+    private VoteReceipt verifyAndAccept(Vote vote) {
+        Voter voter = eligibleVoter(vote);
+
+        // Verify the vote's signature with whichever scheme the voter's key uses
+        try {
+            SignatureScheme scheme = voter.getSignatureScheme();
+            PublicKey publicKey = publicKeyCache.get(voter.getId(), scheme, voter.getPublicKey());
+            boolean isSignatureValid = signatureVerifier.verify(scheme, vote.toString(), vote.getSignature(), publicKey);
+            if (!isSignatureValid) {
+                throw new IllegalStateException("Invalid vote signature");
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Error verifying signature: " + e.getMessage());
+        }
+
+        return accept(vote, voter);
+    }
+
+    /**
+     * Casts a batch of ballots with their signatures verified in parallel. Every ballot gets
+     * its own receipt, in input order: PENDING if it was accepted, REJECTED with the reason
+     * if not. A rejected ballot does not affect the rest of the batch.
+     */
+    public List<VoteReceipt> castVotes(List<Vote> votes) {
+        VoteReceipt[] receipts = new VoteReceipt[votes.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<Voter> voters = new ArrayList<>();
+        List<BatchSignatureVerifier.Item> signatures = new ArrayList<>();
+        Set<String> voterIds = new HashSet<>();
+
+        for (int i = 0; i < votes.size(); i++) {
+            Vote vote = votes.get(i);
+            try {
+                // Only the first ballot from a voter in the batch may count
+                if (!voterIds.add(vote.getVoterId())) {
+                    throw new IllegalStateException("Voter is not eligible to vote");
+                }
+                Voter voter = eligibleVoter(vote);
+                PublicKey publicKey;
+                try {
+                    publicKey = publicKeyCache.get(voter.getId(), voter.getSignatureScheme(),
+                            voter.getPublicKey());
+                } catch (Exception e) {
+                    throw new IllegalStateException("Error verifying signature: " + e.getMessage());
+                }
+                signatures.add(new BatchSignatureVerifier.Item(
+                        voter.getSignatureScheme(), vote.toString(), vote.getSignature(), publicKey));
+                positions.add(i);
+                voters.add(voter);
+            } catch (Exception e) {
+                receipts[i] = VoteReceipt.rejected(vote.getId(), e.getMessage());
+            }
+        }
+
+        boolean[] valid = signatureVerifier.verifyAll(signatures);
+        for (int k = 0; k < valid.length; k++) {
+            int i = positions.get(k);
+            Vote vote = votes.get(i);
+            if (!valid[k]) {
+                receipts[i] = VoteReceipt.rejected(vote.getId(), "Invalid vote signature");
+                continue;
+            }
+            try {
+                receipts[i] = accept(vote, voters.get(k));
+            } catch (IllegalStateException e) {
+                receipts[i] = VoteReceipt.rejected(vote.getId(), e.getMessage());
+            }
+        }
+
+        for (VoteReceipt receipt : receipts) {
+            if (receipt.getStatus() == VoteReceipt.Status.REJECTED) {
+                rejectedVotes.increment();
+            } else {
+                acceptedVotes.increment();
+            }
+        }
+        return Arrays.asList(receipts);
+    }
+
+    private Voter eligibleVoter(Vote vote) {
+        // Verify voter eligibility; the chain also remembers who voted in case the database forgot
         Optional<Voter> optVoter = voterRepository.findById(vote.getVoterId());
-        if (!optVoter.isPresent() || optVoter.get().isHasVoted()) {
+        if (!optVoter.isPresent() || optVoter.get().isHasVoted() || votedVoters.hasVoted(vote.getVoterId())) {
             throw new IllegalStateException("Voter is not eligible to vote");
         }
 
@@ -50,37 +176,40 @@ public class VotingService {
         if (!voter.isVerified()) {
             throw new IllegalStateException("Voter is not verified");
         }
+        return voter;
+    }
 
-        // Verify the vote's signature
-        try {
-            PublicKey publicKey = RSAUtil.getPublicKeyFromString(voter.getPublicKey());
-            boolean isSignatureValid = RSAUtil.verify(vote.toString(), vote.getSignature(), publicKey);
-            if (!isSignatureValid) {
-                throw new IllegalStateException("Invalid vote signature");
-            }
-        } catch (Exception e) {
-            throw new IllegalStateException("Error verifying signature: " + e.getMessage());
+    private VoteReceipt accept(Vote vote, Voter voter) {
+        // Claim the voter's one vote; a concurrent ballot that got there first wins
+        if (voterRepository.markVoted(voter.getId()) == 0) {
+            throw new IllegalStateException("Voter is not eligible to vote");
         }
-
-        // Mark voter as having voted
         voter.setHasVoted(true);
-        voterRepository.save(voter);
-
-        // Update candidate vote count
-        Optional<Candidate> optCandidate = candidateRepository.findById(vote.getCandidateId());
-        if (optCandidate.isPresent()) {
-            Candidate candidate = optCandidate.get();
-            candidate.incrementVoteCount();
-            candidateRepository.save(candidate);
+
+        // Update candidate vote count; written to the candidate row on the next tally flush.
+        // Only known candidates are counted, so made-up IDs cannot grow the pending tally
+        if (vote.getCandidateId() != null && candidateRepository.existsById(vote.getCandidateId())) {
+            candidateTally.increment(vote.getCandidateId());
         }
 
-        // Add vote to blockchain
-        String voteTransaction = vote.toString();
-        List<String> transactions = new ArrayList<>();
-        transactions.add(voteTransaction);
-        blockchain.addBlock(transactions);
+        // Queue the vote for the next block; the receipt is confirmed once it is sealed. The ID
+        // is always ours, so a client cannot reuse another ballot's ID to take over its receipt
+        vote.setId(UUID.randomUUID().toString());
+        return votePool.submit(vote);
+    }
 
-        return vote;
+    /**
+     * The pool's receipt while the vote is pending; once it is sealed, a CONFIRMED receipt
+     * built from the block that holds it.
+     */
+    public Optional<VoteReceipt> getReceipt(String voteId) {
+        Optional<VoteReceipt> pending = votePool.getReceipt(voteId);
+        if (pending.isPresent()) {
+            return pending;
+        }
+        return blockIndex.findVote(voteId)
+                .flatMap(location -> blockIndex.getBlock(location.getHeight()))
+                .map(block -> VoteReceipt.confirmed(voteId, block.getIndex(), block.getHash()));
     }
 
     public List<String> getVotesFromBlockchain() {
@@ -95,31 +224,19 @@ public class VotingService {
         return allVotes;
     }
 
-    public List<Vote> getAllVotes() {
-        List<String> voteStrings = getVotesFromBlockchain();
-        // This is simplified, in a real implementation you would deserialize the vote strings
-        // to Vote objects, but for testing purposes we'll create dummy votes
-        List<Vote> votes = new ArrayList<>();
-        for (int i = 0; i < voteStrings.size(); i++) {
-            Vote vote = new Vote();
-            vote.setId("vote" + i);
-            vote.setVoterId("voter" + i);
-            vote.setCandidateId("candidate" + i);
-            vote.setElectionId("election" + i);
-            vote.setTimestamp(LocalDateTime.now());
-            votes.add(vote);
-        }
-        return votes;
+    public int getVoteCountForCandidate(String candidateId) {
+        return (int) tallyIndex.getCount(candidateId);
     }
 
-    public int getVoteCountForCandidate(String candidateId) {
-        List<Vote> votes = getAllVotes();
-        return (int) votes.stream()
-                .filter(vote -> vote.getCandidateId().equals(candidateId))
-                .count();
+    public long getVoteCount(String electionId, String candidateId) {
+        return tallyIndex.getCount(electionId, candidateId);
     }
 
     public boolean isBlockchainValid() {
-        return blockchain.isChainValid();
+        return blockchain.verifyNewBlocks();
+    }
+
+    public ChainAuditResult auditBlockchain() {
+        return blockchain.auditChain();
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+public class BlockAssemblerTest {
+
+    private Blockchain blockchain;
+    private VotePool votePool;
+    private BlockAssembler assembler;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+        votePool = new VotePool();
+        assembler = new BlockAssembler(blockchain, votePool, 3, 50);
+    }
+
+    private Vote newVote(String id) {
+        Vote vote = new Vote("voter-" + id, "candidate1", "election1");
+        vote.setId(id);
+        return vote;
+    }
+
+    @Test
+    public void testSubmitReturnsPendingReceipt() {
+        VoteReceipt receipt = votePool.submit(newVote("v1"));
+
+        assertEquals("v1", receipt.getVoteId());
+        assertEquals(VoteReceipt.Status.PENDING, receipt.getStatus());
+        assertNull(receipt.getBlockIndex());
+        assertEquals(1, votePool.size());
+    }
+
+    @Test
+    public void testSealsOneBlockPerBatch() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            votePool.submit(newVote("v" + i));
+        }
+
+        // First batch is capped by max-votes
+        Block first = assembler.sealNextBatch(50);
+        assertNotNull(first);
+        assertEquals(3, first.getTransactions().size());
+
+        // Second batch is closed by the time window with the remaining votes
+        Block second = assembler.sealNextBatch(50);
+        assertNotNull(second);
+        assertEquals(2, second.getTransactions().size());
+
+        assertEquals(3, blockchain.getChain().size());
+        assertTrue(blockchain.isChainValid());
+        assertEquals(0, votePool.size());
+    }
+
+    @Test
+    public void testReceiptDroppedAfterSealing() throws Exception {
+        votePool.submit(newVote("v1"));
+
+        Block block = assembler.sealNextBatch(50);
+
+        // The chain answers for sealed votes from here on
+        assertFalse(votePool.getReceipt("v1").isPresent());
+        assertTrue(VoteTransaction.hasId(block.getTransactions().get(0), "v1"));
+    }
+
+    @Test
+    public void testNothingSealedWhenPoolEmpty() throws Exception {
+        assertNull(assembler.sealNextBatch(10));
+        assertEquals(1, blockchain.getChain().size());
+    }
+
+    @Test
+    public void testBackgroundWorkerSealsPendingVotes() throws Exception {
+        assembler.start();
+        try {
+            votePool.submit(newVote("v1"));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (votePool.getReceipt("v1").isPresent() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(votePool.getReceipt("v1").isPresent());
+            assertEquals(2, blockchain.getChain().size());
+        } finally {
+            assembler.stop();
+        }
+    }
+
+    @Test
+    public void testFailedSealPutsBatchBack() throws Exception {
+        // Arrange: the first append fails as if the disk were full
+        Blockchain failing = spy(blockchain);
+        doThrow(new UncheckedIOException(new IOException("No space left on device")))
+                .doCallRealMethod()
+                .when(failing).addBlock(anyList());
+        BlockAssembler flaky = new BlockAssembler(failing, votePool, 3, 50);
+        votePool.submit(newVote("v1"));
+        votePool.submit(newVote("v2"));
+
+        // Act
+        assertThrows(UncheckedIOException.class, () -> flaky.sealNextBatch(0));
+
+        // Assert: nothing lost, and the retry seals both votes
+        assertEquals(2, votePool.size());
+        assertEquals(VoteReceipt.Status.PENDING, votePool.getReceipt("v1").get().getStatus());
+        Block block = flaky.sealNextBatch(0);
+        assertEquals(2, block.getTransactions().size());
+        assertFalse(votePool.getReceipt("v2").isPresent());
+    }
+
+    @Test
+    public void testWorkerSurvivesSealFailure() throws Exception {
+        // Arrange
+        Blockchain failing = spy(blockchain);
+        doThrow(new IllegalStateException("boom")).doCallRealMethod().when(failing).addBlock(anyList());
+        BlockAssembler worker = new BlockAssembler(failing, votePool, 3, 20);
+        worker.start();
+
+        // Act
+        votePool.submit(newVote("v1"));
+
+        // Assert
+        try {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (votePool.getReceipt("v1").isPresent() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(votePool.getReceipt("v1").isPresent());
+            assertEquals(2, blockchain.getChain().size());
+        } finally {
+            worker.stop();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockIndexTest {
+
+    private Blockchain blockchain;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+    }
+
+    private String vote(String id) {
+        Vote vote = new Vote("voter-" + id, "candidate1", "election1");
+        vote.setId(id);
+        return VoteTransaction.encode(vote);
+    }
+
+    @Test
+    public void testIndexesBlocksAppendedAfterSubscribing() {
+        // Arrange
+        BlockIndex index = new BlockIndex(blockchain);
+        String uuid = UUID.randomUUID().toString();
+
+        // Act
+        Block first = blockchain.addBlock(Arrays.asList(vote("a"), "not a vote", vote(uuid)));
+        Block second = blockchain.addBlock(Arrays.asList(vote("b")));
+
+        // Assert
+        assertSame(first, index.getBlockByHash(first.getHash()).orElse(null));
+        assertSame(second, index.getBlockByHash(second.getHash()).orElse(null));
+        assertEquals(second.getIndex(), index.getBlock(second.getIndex()).get().getIndex());
+
+        BlockIndex.VoteLocation location = index.findVote(uuid).get();
+        assertEquals(first.getIndex(), location.getHeight());
+        assertEquals(2, location.getPosition());
+        assertEquals(second.getIndex(), index.findVote("b").get().getHeight());
+        assertEquals(3, index.indexedVotes());
+    }
+
+    @Test
+    public void testMissingBlocksAndVotes() {
+        BlockIndex index = new BlockIndex(blockchain);
+        String uuid = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+        blockchain.addBlock(Arrays.asList(vote("a"), vote(uuid)));
+
+        assertFalse(index.getBlock(-1).isPresent());
+        assertFalse(index.getBlock(2).isPresent());
+        assertFalse(index.getBlockByHash("0".repeat(64)).isPresent());
+        assertFalse(index.getBlockByHash("not-a-hash").isPresent());
+        assertFalse(index.findVote("missing").isPresent());
+        assertFalse(index.findVote(UUID.randomUUID().toString()).isPresent());
+        // Parses to the same UUID as a vote on the chain, but is a different ID
+        assertFalse(index.findVote(uuid.toUpperCase()).isPresent());
+        assertTrue(index.findVote(uuid).isPresent());
+    }
+
+    @Test
+    public void testBackfillsExistingChainInBackground() throws Exception {
+        // Arrange
+        List<Block> blocks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            blocks.add(blockchain.addBlock(Arrays.asList(vote("v" + i))));
+        }
+
+        // Act: lookups are answered before and after the backfill completes
+        BlockIndex index = new BlockIndex(blockchain);
+        Optional<BlockIndex.VoteLocation> early = index.findVote("v3");
+        assertTrue(index.awaitBackfill(10, TimeUnit.SECONDS));
+
+        // Assert
+        assertTrue(index.isBackfilled());
+        assertEquals(blocks.get(3).getIndex(), early.get().getHeight());
+        assertEquals(blockchain.getChain().size(), index.indexedBlocks());
+        for (Block block : blocks) {
+            assertEquals(block.getIndex(), index.getBlockByHash(block.getHash()).get().getIndex());
+        }
+        assertEquals(blocks.get(17).getIndex(), index.findVote("v17").get().getHeight());
+    }
+
+    @Test
+    public void testChainResetReindexesReplacementChain() throws Exception {
+        // Arrange
+        BlockIndex index = new BlockIndex(blockchain);
+        Block old = blockchain.addBlock(Arrays.asList(vote("old")));
+        Blockchain other = new Blockchain(1);
+        Block replacement = other.addBlock(Arrays.asList(vote("new")));
+
+        // Act
+        blockchain.setChain(other.getChain());
+
+        // Assert
+        assertFalse(index.getBlockByHash(old.getHash()).isPresent());
+        assertFalse(index.findVote("old").isPresent());
+        assertEquals(replacement.getHash(), index.getBlockByHash(replacement.getHash()).get().getHash());
+        assertEquals(1, index.findVote("new").get().getHeight());
+    }
+}
@@ -1,5 +1,6 @@
 package com.votex.blockchain;
 
+import com.votex.crypto.HashUtil;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -156,4 +157,33 @@ public class BlockTest {
         block.addTransaction(null);
         assertEquals(2, block.getTransactions().size(), "Should not add null transaction");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testHashMatchesHeaderString() {
+        Block block = new Block(7, 1619712345000L, new ArrayList<>(Arrays.asList("tx1")), "prevHash", "", -42);
+
+        // The byte-level path must hash exactly what the original string concatenation did
+        String expected = HashUtil.applySha256(7 + 1619712345000L + block.getMerkleRoot() + "prevHash" + (-42));
+        assertEquals(expected, block.calculateHash());
+        assertEquals(HashUtil.applySha256(7 + 1619712345000L + block.getMerkleRoot() + "prevHash" + Integer.MAX_VALUE),
+                block.calculateHash(Integer.MAX_VALUE));
+        assertEquals(HashUtil.applySha256(7 + 1619712345000L + block.getMerkleRoot() + "prevHash" + Integer.MIN_VALUE),
+                block.calculateHash(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testMerkleRootSealedWithTransactions() {
+        Block block = new Block();
+        block.setPreviousHash("prevHash");
+        block.setTransactions(new ArrayList<>(Arrays.asList("tx1", "tx2")));
+
+        // Replacing the transactions seals the root straight away
+        assertEquals(HashUtil.getMerkleRoot(Arrays.asList("tx1", "tx2")), block.getMerkleRoot());
+
+        // Adding one marks it stale and mining reseals before searching
+        block.addTransaction("tx3");
+        block.mineBlock(1);
+        assertEquals(HashUtil.getMerkleRoot(Arrays.asList("tx1", "tx2", "tx3")), block.getMerkleRoot());
+        assertEquals(block.getHash(), block.calculateHash());
+    }
+}
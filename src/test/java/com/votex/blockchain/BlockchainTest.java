@@ -1,6 +1,8 @@
 package com.votex.blockchain;
 
+import com.votex.blockchain.store.MemoryBlockStore;
 import com.votex.model.Vote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,6 +11,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -239,4 +248,137 @@ public class BlockchainTest {
             assertEquals(previousBlock.getHash(), currentBlock.getPreviousHash());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testVerifyNewBlocksAdvancesWatermark() {
+        assertEquals(0, blockchain.getVerifiedHeight());
+
+        blockchain.addBlock(Arrays.asList("transaction1"));
+        blockchain.addBlock(Arrays.asList("transaction2"));
+        assertTrue(blockchain.verifyNewBlocks());
+        assertEquals(2, blockchain.getVerifiedHeight());
+
+        blockchain.addBlock(Arrays.asList("transaction3"));
+        assertTrue(blockchain.verifyNewBlocks());
+        assertEquals(3, blockchain.getVerifiedHeight());
+    }
+
+    @Test
+    public void testVerifyNewBlocksOnlyChecksNewBlocks() {
+        blockchain.addBlock(Arrays.asList("transaction1"));
+        assertTrue(blockchain.verifyNewBlocks());
+
+        // Tamper with a block below the watermark: the incremental check trusts it...
+        Block verified = blockchain.getChain().get(1);
+        String originalHash = verified.getHash();
+        verified.setTransactions(new ArrayList<>(Arrays.asList("tampered_transaction")));
+        verified.setHash(originalHash);
+        assertTrue(blockchain.verifyNewBlocks());
+
+        // ...but a full audit catches it and pulls the watermark back
+        assertFalse(blockchain.isChainValid());
+        assertEquals(0, blockchain.getVerifiedHeight());
+    }
+
+    @Test
+    public void testVerifyNewBlocksDetectsTamperedNewBlock() {
+        blockchain.addBlock(Arrays.asList("transaction1"));
+        assertTrue(blockchain.verifyNewBlocks());
+
+        blockchain.addBlock(Arrays.asList("transaction2"));
+        Block fresh = blockchain.getChain().get(2);
+        fresh.getTransactions().set(0, "tampered_transaction");
+
+        assertFalse(blockchain.verifyNewBlocks());
+        assertEquals(1, blockchain.getVerifiedHeight());
+    }
+
+    @Test
+    public void testStreamVotesParsesVoteTransactions() {
+        Vote vote = new Vote("voter123", "candidate456", "election789");
+        vote.setId("vote1");
+        vote.setSignature("signature123");
+
+        blockchain.addBlock(Arrays.asList(VoteTransaction.encode(vote), "not a vote"));
+
+        List<Vote> votes = blockchain.streamVotes().collect(Collectors.toList());
+        assertEquals(1, votes.size());
+        assertEquals("vote1", votes.get(0).getId());
+        assertEquals("candidate456", votes.get(0).getCandidateId());
+        assertEquals(vote.getTimestamp(), votes.get(0).getTimestamp());
+    }
+
+    @Test
+    public void testConcurrentAppendsKeepChainLinked() throws Exception {
+        Blockchain concurrent = new Blockchain(2, 1);
+        int writers = 8;
+        int blocksPerWriter = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < blocksPerWriter; i++) {
+                        concurrent.addBlock(Collections.singletonList("writer" + writer + "-tx" + i));
+                    }
+                    return null;
+                }));
+            }
+            // A reader walking the chain while it grows must never see a gap
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    List<Block> chain = concurrent.getChain();
+                    int size = chain.size();
+                    assertNotNull(chain.get(size - 1));
+                    assertTrue(concurrent.getLatestBlock().getIndex() >= size - 1);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            reader.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+            concurrent.shutdown();
+        }
+
+        List<Block> chain = concurrent.getChain();
+        assertEquals(1 + writers * blocksPerWriter, chain.size());
+        for (int i = 0; i < chain.size(); i++) {
+            assertEquals(i, chain.get(i).getIndex());
+        }
+        assertSame(chain.get(chain.size() - 1), concurrent.getLatestBlock());
+        assertTrue(concurrent.isChainValid());
+    }
+
+    @Test
+    public void testMiningAndCommitMetrics() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Blockchain metered = new Blockchain(2, 1, new MemoryBlockStore(), registry);
+
+        // Act
+        metered.addBlock(Arrays.asList("transaction1"));
+        metered.addBlock(Arrays.asList("transaction2", "transaction3"));
+
+        // Assert
+        assertEquals(2L, registry.get("votex.block.mining").timer().count());
+        assertEquals(2L, registry.get("votex.block.commit").timer().count());
+        assertEquals(2L, registry.get("votex.merkle.build").timer().count());
+        // Each block needs at least one hash, and the winning nonces account for some of them
+        double nonces = registry.get("votex.block.nonces").counter().count();
+        assertTrue(nonces >= metered.getChain().get(1).getNonce() + metered.getChain().get(2).getNonce() + 2);
+        assertTrue(registry.get("votex.block.hash.rate").gauge().value() > 0);
+        assertEquals(2.0, registry.get("votex.chain.height").gauge().value());
+        assertEquals(0.0, registry.get("votex.block.commit.conflicts").counter().count());
+    }
+}
@@ -0,0 +1,80 @@
+package com.votex.blockchain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChainAuditorTest {
+
+    private Blockchain blockchain;
+    private ChainAuditor auditor;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(0); // No proof-of-work so a long chain builds quickly
+        for (int i = 1; i <= 500; i++) {
+            blockchain.addBlock(Arrays.asList("transaction" + i, "other" + i));
+        }
+        auditor = new ChainAuditor();
+    }
+
+    private void tamper(int index) {
+        Block block = blockchain.getChain().get(index);
+        String originalHash = block.getHash();
+        List<String> transactions = new ArrayList<>(block.getTransactions());
+        transactions.set(0, "tampered_transaction");
+        block.setTransactions(transactions);
+        block.setHash(originalHash);
+    }
+
+    @Test
+    public void testValidChain() {
+        ChainAuditResult result = auditor.audit(blockchain.getChain());
+
+        assertTrue(result.isValid());
+        assertEquals(-1, result.getFirstInvalidIndex());
+        assertEquals(501, result.getBlocksChecked());
+        assertTrue(result.getElapsedMillis() >= 0);
+    }
+
+    @Test
+    public void testReportsLowestInvalidBlock() {
+        tamper(400);
+        tamper(137);
+
+        ChainAuditResult result = auditor.audit(blockchain.getChain());
+
+        assertFalse(result.isValid());
+        assertEquals(137, result.getFirstInvalidIndex());
+    }
+
+    @Test
+    public void testDetectsBrokenLink() {
+        blockchain.getChain().get(250).setPreviousHash("not-the-previous-hash");
+
+        assertEquals(250, auditor.audit(blockchain.getChain()).getFirstInvalidIndex());
+    }
+
+    @Test
+    public void testAuditChainMovesWatermark() {
+        tamper(300);
+
+        ChainAuditResult result = blockchain.auditChain();
+
+        assertEquals(300, result.getFirstInvalidIndex());
+        assertEquals(299, blockchain.getVerifiedHeight());
+    }
+
+    @Test
+    public void testGenesisOnlyChain() {
+        ChainAuditResult result = auditor.audit(new Blockchain(0).getChain());
+
+        assertTrue(result.isValid());
+        assertEquals(1, result.getBlocksChecked());
+    }
+}
@@ -0,0 +1,121 @@
+package com.votex.blockchain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FixedKeyTableTest {
+
+    private static long[] key(long seed) {
+        Random random = new Random(seed);
+        return new long[] {random.nextLong(), random.nextLong(), random.nextLong(), random.nextLong()};
+    }
+
+    @Test
+    public void testPutGetAndReplace() {
+        FixedKeyTable table = new FixedKeyTable(4, 16);
+
+        table.put(key(1), 10);
+        table.put(key(2), 0);
+        table.put(key(1), 11);
+
+        assertEquals(11, table.get(key(1)));
+        assertEquals(0, table.get(key(2)));
+        assertEquals(-1, table.get(key(3)));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testKeysSharingFirstWordAreDistinct() {
+        FixedKeyTable table = new FixedKeyTable(2, 16);
+
+        table.put(new long[] {7, 1}, 1);
+        table.put(new long[] {7, 2}, 2);
+
+        assertEquals(1, table.get(new long[] {7, 1}));
+        assertEquals(2, table.get(new long[] {7, 2}));
+        assertEquals(-1, table.get(new long[] {7, 3}));
+    }
+
+    @Test
+    public void testGrowsPastInitialCapacity() {
+        FixedKeyTable table = new FixedKeyTable(4, 16);
+
+        for (int i = 0; i < 10_000; i++) {
+            table.put(key(i), i);
+        }
+
+        assertEquals(10_000, table.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, table.get(key(i)));
+        }
+        assertEquals(-1, table.get(key(10_000)));
+    }
+
+    @Test
+    public void testClear() {
+        FixedKeyTable table = new FixedKeyTable(4, 16);
+        table.put(key(1), 1);
+
+        table.clear();
+
+        assertEquals(0, table.size());
+        assertEquals(-1, table.get(key(1)));
+    }
+
+    @Test
+    public void testRejectsNegativeValues() {
+        FixedKeyTable table = new FixedKeyTable(4, 16);
+
+        assertThrows(IllegalArgumentException.class, () -> table.put(key(1), -1));
+    }
+
+    @Test
+    public void testReadersSeeEveryKeyWrittenBeforeThemWhileTableGrows() throws Exception {
+        // Arrange
+        FixedKeyTable table = new FixedKeyTable(4, 16);
+        int count = 50_000;
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        long[] written = new long[1];
+        CountDownLatch started = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            started.countDown();
+            Random random = new Random();
+            while (!done.get()) {
+                long upTo;
+                synchronized (written) {
+                    upTo = written[0];
+                }
+                if (upTo == 0) {
+                    continue;
+                }
+                long i = (long) (random.nextDouble() * upTo);
+                if (table.get(key(i)) != i) {
+                    failure.compareAndSet(null, "Missing key " + i);
+                }
+            }
+        });
+        reader.start();
+        started.await();
+
+        // Act
+        for (int i = 0; i < count; i++) {
+            table.put(key(i), i);
+            synchronized (written) {
+                written[0] = i + 1;
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        // Assert
+        assertNull(failure.get());
+        assertEquals(count, table.size());
+    }
+}
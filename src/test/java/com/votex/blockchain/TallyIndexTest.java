@@ -0,0 +1,83 @@
+package com.votex.blockchain;
+
+import com.votex.blockchain.checkpoint.CheckpointStore;
+import com.votex.model.Vote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TallyIndexTest {
+
+    private Blockchain blockchain;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+    }
+
+    // No checkpoint file, so the index replays the whole chain as it does on a first start
+    private TallyIndex newTallyIndex() {
+        return new TallyIndex(blockchain, new CheckpointStore(blockchain, (Path) null));
+    }
+
+    private String voteFor(String candidateId, String electionId) {
+        return VoteTransaction.encode(new Vote("voter-" + candidateId, candidateId, electionId));
+    }
+
+    @Test
+    public void testCountsBlocksAppendedAfterSubscribing() {
+        TallyIndex tallyIndex = newTallyIndex();
+
+        blockchain.addBlock(Arrays.asList(voteFor("candidate1", "election1"), voteFor("candidate2", "election1")));
+        blockchain.addBlock(Arrays.asList(voteFor("candidate1", "election1"), voteFor("candidate1", "election2"),
+                "not a vote"));
+
+        assertEquals(3, tallyIndex.getCount("candidate1"));
+        assertEquals(1, tallyIndex.getCount("candidate2"));
+        assertEquals(0, tallyIndex.getCount("candidate3"));
+        assertEquals(2, tallyIndex.getCount("election1", "candidate1"));
+        assertEquals(1, tallyIndex.getCount("election2", "candidate1"));
+        assertEquals(0, tallyIndex.getCount("election3", "candidate1"));
+    }
+
+    @Test
+    public void testRebuildsFromExistingChain() {
+        blockchain.addBlock(Arrays.asList(voteFor("candidate1", "election1"), voteFor("candidate2", "election1")));
+
+        TallyIndex tallyIndex = newTallyIndex();
+
+        assertEquals(1, tallyIndex.getCount("candidate1"));
+        assertEquals(1, tallyIndex.getCount("election1", "candidate2"));
+    }
+
+    @Test
+    public void testElectionTally() {
+        TallyIndex tallyIndex = newTallyIndex();
+        blockchain.addBlock(Arrays.asList(voteFor("candidate2", "election1"), voteFor("candidate1", "election1"),
+                voteFor("candidate2", "election1")));
+
+        Map<String, Long> tally = tallyIndex.getElectionTally("election1");
+
+        assertEquals(Arrays.asList("candidate1", "candidate2"), new ArrayList<>(tally.keySet()));
+        assertEquals(2L, tally.get("candidate2"));
+        assertTrue(tallyIndex.getElectionTally("election2").isEmpty());
+    }
+
+    @Test
+    public void testChainReplacementRebuildsCounts() {
+        TallyIndex tallyIndex = newTallyIndex();
+        blockchain.addBlock(Arrays.asList(voteFor("candidate1", "election1")));
+        List<Block> shorter = new ArrayList<>(blockchain.getChain().subList(0, 1));
+
+        blockchain.setChain(shorter);
+
+        assertEquals(0, tallyIndex.getCount("candidate1"));
+    }
+}
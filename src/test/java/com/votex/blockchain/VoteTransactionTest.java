@@ -0,0 +1,84 @@
+package com.votex.blockchain;
+
+import com.votex.model.Vote;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VoteTransactionTest {
+
+    private Vote newVote() {
+        Vote vote = new Vote("voter1", "candidate1", "election1");
+        vote.setId("vote1");
+        vote.setTimestamp(LocalDateTime.of(2026, 11, 3, 9, 30, 15, 123_456_789));
+        vote.setSignature("c2lnbmF0dXJl");
+        return vote;
+    }
+
+    private void assertSameVote(Vote expected, Vote actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getVoterId(), actual.getVoterId());
+        assertEquals(expected.getCandidateId(), actual.getCandidateId());
+        assertEquals(expected.getElectionId(), actual.getElectionId());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getSignature(), actual.getSignature());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Vote vote = newVote();
+        String transaction = VoteTransaction.encode(vote);
+
+        assertTrue(VoteTransaction.isVote(transaction));
+        assertSameVote(vote, VoteTransaction.decode(transaction));
+        // Same signed payload after parsing, so the signature can be re-checked from the chain
+        assertEquals(vote.toString(), VoteTransaction.decode(transaction).toString());
+    }
+
+    @Test
+    public void testEscapesSeparatorsAndBackslashes() {
+        Vote vote = newVote();
+        vote.setVoterId("a|b\\c");
+        vote.setCandidateId("\\");
+        vote.setElectionId("|");
+
+        String transaction = VoteTransaction.encode(vote);
+        assertSameVote(vote, VoteTransaction.decode(transaction));
+        assertEquals(transaction, VoteTransaction.encode(VoteTransaction.decode(transaction)));
+    }
+
+    @Test
+    public void testNullAndEmptyFieldsStayDistinct() {
+        Vote vote = newVote();
+        vote.setId(null);
+        vote.setCandidateId("");
+        vote.setTimestamp(null);
+        vote.setSignature(null);
+
+        Vote decoded = VoteTransaction.decode(VoteTransaction.encode(vote));
+        assertNull(decoded.getId());
+        assertEquals("", decoded.getCandidateId());
+        assertNull(decoded.getTimestamp());
+        assertNull(decoded.getSignature());
+    }
+
+    @Test
+    public void testRejectsMalformedTransactions() {
+        assertFalse(VoteTransaction.isVote("transaction1"));
+        assertThrows(IllegalArgumentException.class, () -> VoteTransaction.decode("transaction1"));
+        assertThrows(IllegalArgumentException.class, () -> VoteTransaction.decode("vote:1|a|b|c"));
+        assertThrows(IllegalArgumentException.class, () -> VoteTransaction.decode("vote:1|a|b|c|d|e|f|g"));
+        assertThrows(IllegalArgumentException.class, () -> VoteTransaction.decode("vote:1|a|b|c|d|yesterday|f"));
+    }
+
+    @Test
+    public void testBlockSkipsNonVoteTransactions() {
+        Block block = new Block();
+        block.setTransactions(java.util.Arrays.asList("legacy", VoteTransaction.encode(newVote())));
+
+        assertEquals(1, block.getVotes().size());
+        assertEquals("vote1", block.getVotes().get(0).getId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.votex.blockchain.checkpoint;
+
+import com.votex.crypto.HashUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckpointFileTest {
+
+    private Checkpoint checkpoint() {
+        return new Checkpoint(42, HashUtil.applySha256("tip"), 40,
+                Map.of("candidate1", 7L, "candidate2", 3L),
+                Map.of("election1", Map.of("candidate1", 7L, "candidate2", 3L)),
+                Arrays.asList(UUID.randomUUID().toString(), "voter-2", UUID.randomUUID().toString()));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Checkpoint original = checkpoint();
+
+        Checkpoint decoded = CheckpointFile.decode(CheckpointFile.encode(original));
+
+        assertEquals(original.getHeight(), decoded.getHeight());
+        assertEquals(original.getTipHash(), decoded.getTipHash());
+        assertEquals(original.getVerifiedHeight(), decoded.getVerifiedHeight());
+        assertEquals(original.getCandidateCounts(), decoded.getCandidateCounts());
+        assertEquals(original.getElectionCounts(), decoded.getElectionCounts());
+        assertEquals(original.getVotedVoters(), decoded.getVotedVoters());
+    }
+
+    @Test
+    public void testRejectsDamagedOrTruncatedFile() {
+        byte[] bytes = CheckpointFile.encode(checkpoint());
+
+        byte[] flipped = bytes.clone();
+        flipped[10] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> CheckpointFile.decode(flipped));
+        assertThrows(IllegalArgumentException.class,
+                () -> CheckpointFile.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class, () -> CheckpointFile.decode(new byte[3]));
+    }
+}
@@ -0,0 +1,150 @@
+package com.votex.blockchain.checkpoint;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.TallyIndex;
+import com.votex.blockchain.VoteTransaction;
+import com.votex.blockchain.VotedVoterIndex;
+import com.votex.blockchain.store.FileBlockStore;
+import com.votex.model.Vote;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CheckpointerTest {
+
+    @TempDir
+    Path directory;
+
+    private static String voteFor(String voterId, String candidateId) {
+        Vote vote = new Vote(voterId, candidateId, "election1");
+        vote.setId("vote-" + voterId);
+        return VoteTransaction.encode(vote);
+    }
+
+    private void addBlocks(Blockchain blockchain, int from, int to) {
+        for (int i = from; i < to; i++) {
+            blockchain.addBlock(Arrays.asList(voteFor("voter" + i, i % 3 == 0 ? "candidate1" : "candidate2")));
+        }
+    }
+
+    @Test
+    public void testRestartResumesFromCheckpoint() throws Exception {
+        // Arrange: five blocks with a checkpoint every two, so the last one is at height 4
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            CheckpointStore checkpoints = new CheckpointStore(blockchain, directory.resolve(CheckpointStore.FILE_NAME));
+            TallyIndex tally = new TallyIndex(blockchain, checkpoints);
+            VotedVoterIndex voters = new VotedVoterIndex(blockchain, checkpoints);
+            Checkpointer checkpointer = new Checkpointer(blockchain, tally, voters, checkpoints, 2);
+
+            addBlocks(blockchain, 0, 3);
+            blockchain.verifyNewBlocks();
+            addBlocks(blockchain, 3, 5);
+            checkpointer.awaitWrites();
+            checkpointer.shutdown();
+            blockchain.shutdown();
+        }
+
+        // Act
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            CheckpointStore checkpoints = new CheckpointStore(blockchain, directory.resolve(CheckpointStore.FILE_NAME));
+            TallyIndex tally = new TallyIndex(blockchain, checkpoints);
+            VotedVoterIndex voters = new VotedVoterIndex(blockchain, checkpoints);
+
+            // Assert
+            assertTrue(checkpoints.getRestored().isPresent());
+            assertEquals(4, checkpoints.getRestored().get().getHeight());
+            assertEquals(5, checkpoints.getReplayFrom());
+            // Validated before the checkpoint was taken, so not re-checked
+            assertEquals(3, blockchain.getVerifiedHeight());
+
+            // Same answers as a full replay
+            TallyIndex replayed = new TallyIndex(blockchain, new CheckpointStore(blockchain, (Path) null));
+            assertEquals(replayed.getElectionTally("election1"), tally.getElectionTally("election1"));
+            assertEquals(2, tally.getCount("candidate1"));
+            assertEquals(3, tally.getCount("candidate2"));
+            for (int i = 0; i < 5; i++) {
+                assertTrue(voters.hasVoted("voter" + i), "voter" + i);
+            }
+            assertFalse(voters.hasVoted("voter5"));
+            blockchain.shutdown();
+        }
+    }
+
+    @Test
+    public void testCheckpointNotOnChainIsIgnored() throws Exception {
+        // Arrange: a checkpoint naming a block hash the chain doesn't have
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            addBlocks(blockchain, 0, 2);
+            CheckpointStore checkpoints = new CheckpointStore(blockchain, directory.resolve(CheckpointStore.FILE_NAME));
+            checkpoints.save(new Checkpoint(2, "f".repeat(64), 2, Map.of("candidate1", 99L),
+                    Map.of(), Arrays.asList("ghost")));
+
+            // Act
+            CheckpointStore reloaded = new CheckpointStore(blockchain, directory.resolve(CheckpointStore.FILE_NAME));
+            TallyIndex tally = new TallyIndex(blockchain, reloaded);
+
+            // Assert
+            assertFalse(reloaded.getRestored().isPresent());
+            assertEquals(0, reloaded.getReplayFrom());
+            assertEquals(1, tally.getCount("candidate1"));
+            blockchain.shutdown();
+        }
+    }
+
+    @Test
+    public void testDamagedCheckpointIsIgnored() throws Exception {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            Files.write(directory.resolve(CheckpointStore.FILE_NAME), new byte[] {1, 2, 3});
+
+            CheckpointStore checkpoints = new CheckpointStore(blockchain, directory.resolve(CheckpointStore.FILE_NAME));
+
+            assertFalse(checkpoints.getRestored().isPresent());
+            blockchain.shutdown();
+        }
+    }
+
+    @Test
+    public void testIgnoresCheckpointWhoseBlockWasTampered() {
+        // Arrange: block 2 keeps its stored hash but one of its votes was rewritten
+        Path tampered = directory.resolve("tampered");
+        try (FileBlockStore original = new FileBlockStore(directory.resolve("original"), 1 << 20);
+             FileBlockStore copy = new FileBlockStore(tampered, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, original);
+            addBlocks(blockchain, 0, 3);
+            for (Block block : blockchain.getChain()) {
+                copy.append(block.getIndex() != 2 ? block : Block.restore(block.getIndex(), block.getTimestamp(),
+                        Arrays.asList(voteFor("voter2", "candidate1")), block.getPreviousHash(),
+                        block.getMerkleRoot(), block.getHash(), block.getNonce()));
+            }
+            new CheckpointStore(blockchain, tampered.resolve(CheckpointStore.FILE_NAME))
+                    .save(new Checkpoint(2, blockchain.getChain().get(2).getHash(), 2,
+                            Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList()));
+            blockchain.shutdown();
+        }
+
+        // Act
+        try (FileBlockStore store = new FileBlockStore(tampered, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            CheckpointStore checkpoints = new CheckpointStore(blockchain, tampered.resolve(CheckpointStore.FILE_NAME));
+
+            // Assert: nothing is trusted, so the next check finds the tampered block
+            assertFalse(checkpoints.getRestored().isPresent());
+            assertEquals(0, checkpoints.getReplayFrom());
+            assertEquals(0, blockchain.getVerifiedHeight());
+            assertFalse(blockchain.verifyNewBlocks());
+            blockchain.shutdown();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.votex.blockchain.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.VoteTransaction;
+import com.votex.model.Vote;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockCodecTest {
+
+    private Block minedBlock(List<String> transactions) {
+        Blockchain blockchain = new Blockchain(1, 1);
+        blockchain.addBlock(transactions);
+        blockchain.shutdown();
+        return blockchain.getLatestBlock();
+    }
+
+    private void assertSameBlock(Block expected, Block actual) {
+        assertEquals(expected.getIndex(), actual.getIndex());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getNonce(), actual.getNonce());
+        assertEquals(expected.getHash(), actual.getHash());
+        assertEquals(expected.getPreviousHash(), actual.getPreviousHash());
+        assertEquals(expected.getMerkleRoot(), actual.getMerkleRoot());
+        assertEquals(expected.getTransactions(), actual.getTransactions());
+    }
+
+    @Test
+    public void testRoundTripMinedBlock() {
+        Block block = minedBlock(Arrays.asList("transaction1", "transaction2", "ünïcödé"));
+
+        Block decoded = BlockCodec.decode(BlockCodec.encode(block));
+
+        assertSameBlock(block, decoded);
+        assertEquals(decoded.getHash(), decoded.calculateHash(), "Decoded block should still verify");
+    }
+
+    @Test
+    public void testRoundTripGenesisAndNonHexFields() {
+        Block genesis = new Blockchain(1, 1).getChain().get(0);
+        assertSameBlock(genesis, BlockCodec.decode(BlockCodec.encode(genesis)));
+
+        Block odd = Block.restore(3, -5L, new ArrayList<>(), null, "", "NOT-HEX", -17);
+        assertSameBlock(odd, BlockCodec.decode(BlockCodec.encode(odd)));
+    }
+
+    @Test
+    public void testRejectsUnknownVersion() {
+        byte[] bytes = BlockCodec.encode(minedBlock(Arrays.asList("tx")));
+        bytes[0] = 99;
+
+        assertThrows(IllegalStateException.class, () -> BlockCodec.decode(bytes));
+    }
+
+    @Test
+    public void testRejectsTruncatedRecord() {
+        byte[] bytes = BlockCodec.encode(minedBlock(Arrays.asList("tx")));
+
+        assertThrows(IllegalStateException.class,
+                () -> BlockCodec.decode(Arrays.copyOf(bytes, bytes.length - 5)));
+    }
+
+    @Test
+    public void testHeaderMuchSmallerThanJson() throws Exception {
+        Block block = minedBlock(new ArrayList<>());
+        byte[] binary = BlockCodec.encode(block);
+        byte[] json = new ObjectMapper().writeValueAsBytes(block);
+
+        // Three hashes shrink from 64 hex chars plus JSON quoting to 33 bytes each
+        assertTrue(binary.length * 2 < json.length,
+                "binary " + binary.length + " bytes vs JSON " + json.length + " bytes");
+    }
+
+    @Test
+    public void testVoteTransactionsStoredTypedAndRoundTrip() {
+        List<String> transactions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Vote vote = new Vote(UUID.randomUUID().toString(), "candidate-" + (i % 3), "election-2026-general");
+            vote.setId(UUID.randomUUID().toString());
+            vote.setTimestamp(LocalDateTime.of(2026, 11, 3, 9, 30, i, i * 1000));
+            vote.setSignature("c2lnbmF0dXJlLWJ5dGVz");
+            transactions.add(VoteTransaction.encode(vote));
+        }
+        transactions.add("not a vote");
+        Block block = minedBlock(transactions);
+
+        byte[] encoded = BlockCodec.encode(block);
+        Block decoded = BlockCodec.decode(encoded);
+
+        assertSameBlock(block, decoded);
+        assertEquals(decoded.getHash(), decoded.calculateHash(), "Merkle root must survive the round trip");
+        int plainText = transactions.stream().mapToInt(String::length).sum();
+        assertTrue(encoded.length * 2 < plainText,
+                "typed votes " + encoded.length + " bytes vs " + plainText + " bytes of text");
+    }
+
+    @Test
+    public void testDecodesVersionOneRecords() {
+        // Version 1: same header, every transaction a plain length-prefixed string
+        Block block = minedBlock(Arrays.asList("tx1", "tx2"));
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(1);
+        writer.writeVarInt(block.getIndex());
+        writer.writeSignedVarLong(block.getTimestamp());
+        writer.writeSignedVarInt(block.getNonce());
+        writer.writeHash(block.getHash());
+        writer.writeHash(block.getPreviousHash());
+        writer.writeHash(block.getMerkleRoot());
+        writer.writeVarInt(2);
+        writer.writeString("tx1");
+        writer.writeString("tx2");
+
+        assertSameBlock(block, BlockCodec.decode(writer.toByteArray()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.votex.blockchain.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votex.crypto.RSAUtil;
+import com.votex.model.Vote;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VoteCodecTest {
+
+    private Vote newVote(String candidateId) {
+        Vote vote = new Vote(UUID.randomUUID().toString(), candidateId, "election-2026-general");
+        vote.setId(UUID.randomUUID().toString());
+        vote.setTimestamp(LocalDateTime.of(2026, 11, 3, 9, 30, 15, 123_456_789));
+        vote.setSignature("c2lnbmF0dXJlLWJ5dGVz");
+        return vote;
+    }
+
+    private void assertSameVote(Vote expected, Vote actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getVoterId(), actual.getVoterId());
+        assertEquals(expected.getCandidateId(), actual.getCandidateId());
+        assertEquals(expected.getElectionId(), actual.getElectionId());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getSignature(), actual.getSignature());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Vote vote = newVote("candidate-a");
+
+        assertSameVote(vote, VoteCodec.decode(VoteCodec.encode(vote)));
+    }
+
+    @Test
+    public void testRoundTripNonCanonicalFields() {
+        Vote vote = new Vote("voter1", null, "election1");
+        vote.setId("not-a-uuid");
+        vote.setTimestamp(null);
+        vote.setSignature("not base64!");
+
+        assertSameVote(vote, VoteCodec.decode(VoteCodec.encode(vote)));
+    }
+
+    @Test
+    public void testSignatureStillVerifiesAfterRoundTrip() throws Exception {
+        KeyPair keyPair = RSAUtil.generateKeyPair();
+        Vote vote = newVote("candidate-a");
+        vote.setTimestamp(LocalDateTime.now());
+        vote.setSignature(RSAUtil.sign(vote.toString(), keyPair.getPrivate()));
+
+        Vote decoded = VoteCodec.decode(VoteCodec.encode(vote));
+
+        assertTrue(RSAUtil.verify(decoded.toString(), decoded.getSignature(), keyPair.getPublic()));
+    }
+
+    @Test
+    public void testBatchRoundTripInternsIds() {
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            votes.add(newVote("candidate-" + (i % 3)));
+        }
+
+        byte[] batch = VoteCodec.encodeAll(votes);
+        List<Vote> decoded = VoteCodec.decodeAll(batch);
+
+        assertEquals(votes.size(), decoded.size());
+        for (int i = 0; i < votes.size(); i++) {
+            assertSameVote(votes.get(i), decoded.get(i));
+        }
+        // Interning means the batch costs less than encoding each vote on its own
+        int separately = votes.stream().mapToInt(vote -> VoteCodec.encode(vote).length).sum();
+        assertTrue(batch.length < separately);
+    }
+
+    @Test
+    public void testBatchMuchSmallerThanJson() throws Exception {
+        List<Vote> votes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Vote vote = newVote("candidate-" + (i % 3));
+            vote.setSignature("c2lnbmF0dXJlLWJ5dGVzLXRoYXQtYXJlLWxvbmdlcg==");
+            votes.add(vote);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+
+        int binary = VoteCodec.encodeAll(votes).length;
+        int json = objectMapper.writeValueAsBytes(votes).length;
+
+        assertTrue(binary * 2 < json, "binary " + binary + " bytes vs JSON " + json + " bytes");
+    }
+
+    @Test
+    public void testRejectsUnknownVersion() {
+        byte[] bytes = VoteCodec.encode(newVote("candidate-a"));
+        bytes[0] = 7;
+
+        assertThrows(IllegalStateException.class, () -> VoteCodec.decode(bytes));
+    }
+}
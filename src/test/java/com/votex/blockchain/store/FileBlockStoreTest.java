@@ -0,0 +1,201 @@
+package com.votex.blockchain.store;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.codec.BlockCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileBlockStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private Block block(int index, String... transactions) {
+        return Block.restore(index, 1000L + index, Arrays.asList(transactions),
+                "prev" + index, "merkle" + index, "hash" + index, index * 7);
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void testGetEncodedMatchesCodec() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            store.append(block(0));
+            store.append(block(1, "tx1", "tx2"));
+
+            ByteBuffer encoded = store.getEncoded(1);
+
+            assertTrue(encoded.isReadOnly());
+            byte[] bytes = new byte[encoded.remaining()];
+            encoded.get(bytes);
+            assertArrayEquals(BlockCodec.encode(store.get(1)), bytes);
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getEncoded(2));
+        }
+    }
+
+    @Test
+    public void testRemapsLogarithmicallyAsSegmentGrows() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 24)) {
+            // Read each block back as it is appended, the pattern that used to remap every time
+            for (int i = 0; i < 2000; i++) {
+                store.append(block(i, "tx" + i));
+                assertEquals("tx" + i, store.get(i).getTransactions().get(0));
+            }
+
+            assertEquals(Arrays.asList("tx7"), store.get(7).getTransactions());
+            assertTrue(store.mappings() <= 12, "mapped " + store.mappings() + " times");
+        }
+    }
+
+    @Test
+    public void testAppendAndGet() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            store.append(block(0));
+            store.append(block(1, "tx1", "tx2"));
+
+            assertEquals(2, store.size());
+            Block read = store.get(1);
+            assertEquals(1, read.getIndex());
+            assertEquals(1001L, read.getTimestamp());
+            assertEquals(Arrays.asList("tx1", "tx2"), read.getTransactions());
+            assertEquals("prev1", read.getPreviousHash());
+            assertEquals("merkle1", read.getMerkleRoot());
+            assertEquals("hash1", read.getHash());
+            assertEquals(7, read.getNonce());
+        }
+    }
+
+    @Test
+    public void testRejectsOutOfOrderAppend() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            store.append(block(0));
+            assertThrows(IllegalArgumentException.class, () -> store.append(block(2)));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        }
+    }
+
+    @Test
+    public void testReopenRestoresBlocks() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            for (int i = 0; i < 10; i++) {
+                store.append(block(i, "tx" + i));
+            }
+        }
+
+        try (FileBlockStore reopened = new FileBlockStore(directory, 1 << 20)) {
+            assertEquals(10, reopened.size());
+            assertEquals(Arrays.asList("tx6"), reopened.get(6).getTransactions());
+            reopened.append(block(10, "tx10"));
+            assertEquals("hash10", reopened.get(10).getHash());
+        }
+    }
+
+    @Test
+    public void testAppendedBlocksSurviveWithoutClose() {
+        // Arrange: the writer is never closed, as after a crash
+        FileBlockStore crashed = new FileBlockStore(directory, 1 << 10);
+        for (int i = 0; i < 20; i++) {
+            crashed.append(block(i, "tx" + i));
+        }
+
+        // Act
+        try (FileBlockStore reopened = new FileBlockStore(directory, 1 << 10)) {
+            // Assert
+            assertEquals(20, reopened.size());
+            assertEquals(Arrays.asList("tx19"), reopened.get(19).getTransactions());
+        } finally {
+            crashed.close();
+        }
+    }
+
+    @Test
+    public void testRollsOverToNewSegments() throws IOException {
+        try (FileBlockStore store = new FileBlockStore(directory, 256)) {
+            for (int i = 0; i < 20; i++) {
+                store.append(block(i, "transaction-" + i));
+            }
+            assertTrue(segmentCount() > 1, "Small segments should force a rollover");
+            for (int i = 0; i < 20; i++) {
+                assertEquals(Arrays.asList("transaction-" + i), store.get(i).getTransactions());
+            }
+        }
+
+        try (FileBlockStore reopened = new FileBlockStore(directory, 256)) {
+            assertEquals(20, reopened.size());
+            assertEquals("hash19", reopened.get(19).getHash());
+        }
+    }
+
+    @Test
+    public void testTruncatesTornTailOnOpen() throws IOException {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            store.append(block(0));
+            store.append(block(1, "tx1"));
+        }
+
+        // Simulate a crash part-way through writing a third record
+        Path segment = directory.resolve("segment-00000000.log");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        try (FileBlockStore reopened = new FileBlockStore(directory, 1 << 20)) {
+            assertEquals(1, reopened.size());
+            reopened.append(block(1, "tx1-again"));
+            assertEquals(Arrays.asList("tx1-again"), reopened.get(1).getTransactions());
+        }
+    }
+
+    @Test
+    public void testBlockchainSurvivesRestart() {
+        String tipHash;
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            blockchain.addBlock(Arrays.asList("vote1"));
+            blockchain.addBlock(Arrays.asList("vote2", "vote3"));
+            tipHash = blockchain.getLatestBlock().getHash();
+            blockchain.shutdown();
+        }
+
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            assertEquals(3, blockchain.getChain().size());
+            assertEquals(tipHash, blockchain.getLatestBlock().getHash());
+            assertTrue(blockchain.isChainValid());
+            blockchain.shutdown();
+        }
+    }
+
+    @Test
+    public void testBlockchainRefusesToReplaceFileBackedChain() {
+        try (FileBlockStore store = new FileBlockStore(directory, 1 << 20)) {
+            Blockchain blockchain = new Blockchain(1, 1, store);
+            blockchain.addBlock(Arrays.asList("vote1"));
+            Blockchain other = new Blockchain(1);
+
+            assertThrows(IllegalStateException.class, () -> blockchain.setChain(other.getChain()));
+
+            // Still writing through the file store
+            blockchain.addBlock(Arrays.asList("vote2"));
+            assertEquals(3, store.size());
+            blockchain.shutdown();
+            other.shutdown();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.votex.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebConfigTest {
+
+    private long timeoutAfterInterceptor(String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAsyncSupported(true);
+        StandardServletAsyncWebRequest asyncRequest =
+                new StandardServletAsyncWebRequest(request, new MockHttpServletResponse());
+
+        new WebConfig.ExportTimeoutInterceptor(600_000).beforeConcurrentHandling(asyncRequest, () -> null);
+        asyncRequest.startAsync();
+
+        return ((MockAsyncContext) request.getAsyncContext()).getTimeout();
+    }
+
+    @Test
+    public void testExportGetsLongTimeout() throws Exception {
+        assertEquals(600_000, timeoutAfterInterceptor(WebConfig.EXPORT_PATH));
+    }
+
+    @Test
+    public void testOtherAsyncRequestsKeepDefaultTimeout() throws Exception {
+        long defaultTimeout = new MockAsyncContext(new MockHttpServletRequest(), null).getTimeout();
+
+        assertEquals(defaultTimeout, timeoutAfterInterceptor("/api/votes/async"));
+        assertEquals(defaultTimeout, timeoutAfterInterceptor("/api/blocks/export/extra"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.votex.controller;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockIndex;
+import com.votex.model.BlockPage;
+import com.votex.service.ChainExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class BlockControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private BlockIndex blockIndex;
+
+    @Mock
+    private ChainExportService exportService;
+
+    @InjectMocks
+    private BlockController blockController;
+
+    private Block block;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(blockController).build();
+
+        block = new Block(1, 1700000000000L, Arrays.asList("tx1", "tx2"), "prevhash", "merkleroot", 42);
+    }
+
+    @Test
+    public void testGetBlockByHeight() throws Exception {
+        when(blockIndex.getBlock(1)).thenReturn(Optional.of(block));
+
+        mockMvc.perform(get("/api/blocks/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.index").value(1))
+                .andExpect(jsonPath("$.hash").value(block.getHash()))
+                .andExpect(jsonPath("$.previousHash").value("prevhash"))
+                .andExpect(jsonPath("$.transactions[1]").value("tx2"))
+                .andExpect(jsonPath("$.votes").doesNotExist());
+    }
+
+    @Test
+    public void testGetBlockByHash() throws Exception {
+        when(blockIndex.getBlockByHash(block.getHash())).thenReturn(Optional.of(block));
+
+        mockMvc.perform(get("/api/blocks/hash/" + block.getHash()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nonce").value(42));
+    }
+
+    @Test
+    public void testUnknownBlockIsNotFound() throws Exception {
+        when(blockIndex.getBlock(9)).thenReturn(Optional.empty());
+        when(blockIndex.getBlockByHash("abc")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/blocks/9")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/blocks/hash/abc")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetBlocksPage() throws Exception {
+        when(exportService.getPage(1, 100)).thenReturn(new BlockPage(Collections.singletonList(block), 2, 5));
+
+        mockMvc.perform(get("/api/blocks").param("from", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blocks[0].hash").value(block.getHash()))
+                .andExpect(jsonPath("$.nextFrom").value(2))
+                .andExpect(jsonPath("$.height").value(5));
+    }
+
+    @Test
+    public void testGetBlocksRejectsBadArguments() throws Exception {
+        when(exportService.getPage(-1, 100)).thenThrow(new IllegalArgumentException("from must be at least 0"));
+
+        mockMvc.perform(get("/api/blocks").param("from", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("from must be at least 0"));
+    }
+
+    @Test
+    public void testExportStreamsNdjson() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"index\":3}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).writeNdjson(eq(3), any(OutputStream.class));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/blocks/export").param("from", "3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{\"index\":3}\n"));
+    }
+
+    @Test
+    public void testExportUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/blocks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
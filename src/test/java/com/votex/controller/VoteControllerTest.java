@@ -1,22 +1,37 @@
 package com.votex.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.ChainAuditResult;
+import com.votex.blockchain.VoteTransaction;
+import com.votex.crypto.MerkleProof;
 import com.votex.model.Vote;
+import com.votex.model.VoteProof;
+import com.votex.model.VoteReceipt;
+import com.votex.service.ChainExportService;
+import com.votex.service.VoteProofService;
+import com.votex.service.VoteSubmissionPipeline;
 import com.votex.service.VotingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -28,8 +43,17 @@ public class VoteControllerTest {
     @Mock
     private VotingService votingService;
 
-    @InjectMocks
-    private VoteController voteController;
+    @Mock
+    private VoteSubmissionPipeline submissionPipeline;
+
+    @Mock
+    private VoteProofService proofService;
+
+    private final Blockchain blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+
+    @Spy
+    private ChainExportService exportService =
+            new ChainExportService(blockchain, new ObjectMapper().findAndRegisterModules(), 500);
 
     private ObjectMapper objectMapper;
     private Vote testVote;
@@ -37,6 +61,8 @@ public class VoteControllerTest {
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
+        VoteController voteController =
+                new VoteController(votingService, submissionPipeline, proofService, exportService, 3);
         mockMvc = MockMvcBuilders.standaloneSetup(voteController).build();
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules(); // For LocalDateTime serialization
@@ -54,17 +80,57 @@ public class VoteControllerTest {
     @Test
     public void testCastVote_Success() throws Exception {
         // Mock service
-        when(votingService.castVote(any(Vote.class))).thenReturn(testVote);
+        when(votingService.castVote(any(Vote.class))).thenReturn(VoteReceipt.pending("vote1"));
 
         // Perform request and validation
         mockMvc.perform(post("/api/votes")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(testVote)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").value("vote1"))
-                .andExpect(jsonPath("$.voterId").value("voter1"))
-                .andExpect(jsonPath("$.candidateId").value("candidate1"))
-                .andExpect(jsonPath("$.electionId").value("election1"));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.voteId").value("vote1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    public void testGetReceipt() throws Exception {
+        // Mock service
+        when(votingService.getReceipt("vote1"))
+                .thenReturn(Optional.of(VoteReceipt.confirmed("vote1", 3, "000abc")));
+        when(votingService.getReceipt("missing")).thenReturn(Optional.empty());
+
+        // Perform request and validation
+        mockMvc.perform(get("/api/votes/{id}/receipt", "vote1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.blockIndex").value(3))
+                .andExpect(jsonPath("$.blockHash").value("000abc"));
+
+        mockMvc.perform(get("/api/votes/{id}/receipt", "missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testGetProof() throws Exception {
+        // Mock service
+        VoteProof proof = new VoteProof();
+        proof.setVoteId("vote1");
+        proof.setBlockIndex(3);
+        proof.setMerkleRoot("abc123");
+        proof.setProof(new MerkleProof(1, Arrays.asList(new MerkleProof.Step("def456", true))));
+        when(proofService.getProof("vote1")).thenReturn(Optional.of(proof));
+        when(proofService.getProof("pending")).thenReturn(Optional.empty());
+
+        // Perform request and validation
+        mockMvc.perform(get("/api/votes/{id}/proof", "vote1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blockIndex").value(3))
+                .andExpect(jsonPath("$.merkleRoot").value("abc123"))
+                .andExpect(jsonPath("$.proof.leafIndex").value(1))
+                .andExpect(jsonPath("$.proof.path[0].hash").value("def456"))
+                .andExpect(jsonPath("$.proof.path[0].left").value(true));
+
+        mockMvc.perform(get("/api/votes/{id}/proof", "pending"))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -81,17 +147,101 @@ public class VoteControllerTest {
     }
 
     @Test
-    public void testGetAllVotes() throws Exception {
+    public void testCastVotesBatch() throws Exception {
         // Mock service
+        when(votingService.castVotes(any()))
+                .thenReturn(Arrays.asList(VoteReceipt.pending("vote1"), VoteReceipt.rejected("vote2", "Invalid vote signature")));
+
+        // Perform request and validation
+        mockMvc.perform(post("/api/votes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(testVote, testVote))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$[1].reason").value("Invalid vote signature"));
+    }
+
+    @Test
+    public void testCastVotesBatch_RejectsOversizedBatch() throws Exception {
+        // Perform request and validation
+        mockMvc.perform(post("/api/votes/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(testVote, testVote, testVote, testVote))))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("Batch exceeds 3 ballots"));
+
+        verify(votingService, never()).castVotes(any());
+    }
+
+    @Test
+    public void testCastVoteAsync_Success() throws Exception {
+        // Mock pipeline
+        when(submissionPipeline.submit(any(Vote.class)))
+                .thenReturn(CompletableFuture.completedFuture(VoteReceipt.pending("vote1")));
+
+        // Perform request and validation
+        MvcResult result = mockMvc.perform(post("/api/votes/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testVote)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.voteId").value("vote1"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    public void testCastVoteAsync_Rejected() throws Exception {
+        // Mock pipeline failing the ballot
+        when(submissionPipeline.submit(any(Vote.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Invalid vote signature")));
+
+        // Perform request and validation
+        MvcResult result = mockMvc.perform(post("/api/votes/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testVote)))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid vote signature"));
+    }
+
+    @Test
+    public void testCastVoteAsync_QueueFull() throws Exception {
+        // Mock pipeline with no room left
+        when(submissionPipeline.submit(any(Vote.class)))
+                .thenThrow(new VoteSubmissionPipeline.QueueFullException("Vote submission queue is full, retry shortly"));
+
+        // Perform request and validation
+        MvcResult result = mockMvc.perform(post("/api/votes/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(testVote)))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("Vote submission queue is full, retry shortly"));
+        verify(votingService, never()).castVote(any(Vote.class));
+    }
+
+    @Test
+    public void testGetAllVotes() throws Exception {
+        // Votes sealed into two blocks
         Vote vote1 = new Vote("voter1", "candidate1", "election1");
         vote1.setId("vote1");
         Vote vote2 = new Vote("voter2", "candidate2", "election1");
         vote2.setId("vote2");
 
-        when(votingService.getAllVotes()).thenReturn(Arrays.asList(vote1, vote2));
+        blockchain.addBlock(Arrays.asList(VoteTransaction.encode(vote1)));
+        blockchain.addBlock(Arrays.asList(VoteTransaction.encode(vote2)));
 
-        // Perform request and validation
-        mockMvc.perform(get("/api/votes"))
+        // Perform request and validation; the body is streamed from the chain
+        MvcResult result = mockMvc.perform(get("/api/votes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value("vote1"))
                 .andExpect(jsonPath("$[0].voterId").value("voter1"))
@@ -110,6 +260,21 @@ public class VoteControllerTest {
                 .andExpect(jsonPath("$.valid").value(true));
     }
 
+    @Test
+    public void testVerifyBlockchainFullAudit() throws Exception {
+        // Mock service
+        when(votingService.auditBlockchain()).thenReturn(new ChainAuditResult(3, 10, 5));
+
+        // Perform request and validation
+        mockMvc.perform(get("/api/votes/blockchain/verify").param("full", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.valid").value(false))
+                .andExpect(jsonPath("$.firstInvalidIndex").value(3))
+                .andExpect(jsonPath("$.blocksChecked").value(10))
+                .andExpect(jsonPath("$.elapsedMillis").value(5));
+        verify(votingService, never()).isBlockchainValid();
+    }
+
     @Test
     public void testGetVoteCountForCandidate() throws Exception {
         // Mock service
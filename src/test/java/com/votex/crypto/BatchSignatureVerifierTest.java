@@ -0,0 +1,100 @@
+package com.votex.crypto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchSignatureVerifierTest {
+
+    private static KeyPair keyPair;
+    private static KeyPair otherKeyPair;
+
+    private BatchSignatureVerifier verifier;
+
+    @BeforeAll
+    public static void generateKeys() throws Exception {
+        keyPair = RSAUtil.generateKeyPair();
+        otherKeyPair = RSAUtil.generateKeyPair();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    public void testResultsFollowInputOrder() throws Exception {
+        verifier = new BatchSignatureVerifier(4);
+        List<BatchSignatureVerifier.Item> items = new ArrayList<>();
+        boolean[] expected = new boolean[25];
+        for (int i = 0; i < expected.length; i++) {
+            String data = "ballot-" + i;
+            String signature = RSAUtil.sign(data, keyPair.getPrivate());
+            switch (i % 4) {
+                case 0:
+                    items.add(new BatchSignatureVerifier.Item(data, signature, keyPair.getPublic()));
+                    expected[i] = true;
+                    break;
+                case 1:
+                    items.add(new BatchSignatureVerifier.Item(data + "-tampered", signature, keyPair.getPublic()));
+                    break;
+                case 2:
+                    items.add(new BatchSignatureVerifier.Item(data, signature, otherKeyPair.getPublic()));
+                    break;
+                default:
+                    items.add(new BatchSignatureVerifier.Item(data, "not base64!", keyPair.getPublic()));
+                    break;
+            }
+        }
+
+        boolean[] results = verifier.verifyAll(items);
+
+        assertArrayEquals(expected, results);
+    }
+
+    @Test
+    public void testSingleThreadAndEdgeCases() throws Exception {
+        verifier = new BatchSignatureVerifier(1);
+        String signature = RSAUtil.sign("ballot", keyPair.getPrivate());
+
+        assertEquals(0, verifier.verifyAll(Collections.emptyList()).length);
+        assertArrayEquals(new boolean[] {true, false, false}, verifier.verifyAll(List.of(
+                new BatchSignatureVerifier.Item("ballot", signature, keyPair.getPublic()),
+                new BatchSignatureVerifier.Item("ballot", null, keyPair.getPublic()),
+                new BatchSignatureVerifier.Item("ballot", signature, null))));
+    }
+
+    @Test
+    public void testDefaultsToOneThreadPerCore() {
+        verifier = new BatchSignatureVerifier(0);
+
+        assertEquals(Runtime.getRuntime().availableProcessors(), verifier.getThreads());
+    }
+
+    @Test
+    public void testRecordsVerifyLatencyPerScheme() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        verifier = new BatchSignatureVerifier(2, registry);
+        String signature = RSAUtil.sign("ballot", keyPair.getPrivate());
+
+        verifier.verifyAll(List.of(
+                new BatchSignatureVerifier.Item("ballot", signature, keyPair.getPublic()),
+                new BatchSignatureVerifier.Item("ballot", signature, otherKeyPair.getPublic()),
+                new BatchSignatureVerifier.Item("ballot", null, keyPair.getPublic())));
+        assertTrue(verifier.verify(SignatureScheme.RSA_2048, "ballot", signature, keyPair.getPublic()));
+
+        // The null signature is turned away before any verification is attempted
+        assertEquals(3L, registry.get("votex.signature.verify").tag("scheme", "RSA_2048").timer().count());
+        assertEquals(0L, registry.get("votex.signature.verify").tag("scheme", "ECDSA_P256").timer().count());
+    }
+}
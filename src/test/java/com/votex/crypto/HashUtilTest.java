@@ -1,6 +1,9 @@
 package com.votex.crypto;
 
 import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
@@ -80,4 +83,52 @@ public class HashUtilTest {
         
         assertEquals(expected, actual, "Merkle root of odd number of transactions should be calculated correctly");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSha256BytesMatchesHexApi() {
+        byte[] digest = HashUtil.sha256("test".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(HashUtil.SHA256_LENGTH, digest.length);
+        assertEquals(HashUtil.applySha256("test"), HashUtil.toHex(digest));
+    }
+
+    @Test
+    public void testSha256IntoBufferAndByteBuffer() {
+        byte[] input = "xxtestxx".getBytes(StandardCharsets.UTF_8);
+        byte[] expected = HashUtil.sha256("test".getBytes(StandardCharsets.UTF_8));
+
+        byte[] out = new byte[HashUtil.SHA256_LENGTH + 4];
+        HashUtil.sha256(input, 2, 4, out, 4);
+        assertArrayEquals(expected, Arrays.copyOfRange(out, 4, out.length));
+
+        assertArrayEquals(expected, HashUtil.sha256(ByteBuffer.wrap(input, 2, 4)));
+    }
+
+    @Test
+    public void testToHex() {
+        byte[] bytes = {0x00, 0x0f, (byte) 0xa0, (byte) 0xff};
+        assertEquals("000fa0ff", HashUtil.toHex(bytes));
+
+        byte[] ascii = new byte[8];
+        HashUtil.toHexAscii(bytes, ascii, 0);
+        assertEquals("000fa0ff", new String(ascii, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void testHasLeadingZeroNibbles() {
+        byte[] hash = {0x00, 0x0a, (byte) 0xff};
+
+        assertTrue(HashUtil.hasLeadingZeroNibbles(hash, 0));
+        assertTrue(HashUtil.hasLeadingZeroNibbles(hash, 2));
+        assertTrue(HashUtil.hasLeadingZeroNibbles(hash, 3));
+        assertFalse(HashUtil.hasLeadingZeroNibbles(hash, 4));
+    }
+
+    @Test
+    public void testGetMerkleRootBytes() {
+        List<String> transactions = Arrays.asList("transaction1", "transaction2", "transaction3");
+
+        assertEquals(HashUtil.getMerkleRoot(transactions), HashUtil.toHex(HashUtil.getMerkleRootBytes(transactions)));
+        assertNull(HashUtil.getMerkleRootBytes(Arrays.asList()));
+    }
+}
@@ -0,0 +1,124 @@
+package com.votex.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MerkleTreeTest {
+
+    /**
+     * The original layer-by-layer tree over hex strings, kept as the reference every
+     * other build must agree with.
+     */
+    private static String referenceRoot(List<String> transactions) {
+        List<String> layer = new ArrayList<>();
+        for (String transaction : transactions) {
+            layer.add(HashUtil.applySha256(transaction));
+        }
+        while (layer.size() > 1) {
+            List<String> next = new ArrayList<>();
+            for (int i = 0; i < layer.size(); i += 2) {
+                String left = layer.get(i);
+                String right = i + 1 < layer.size() ? layer.get(i + 1) : left;
+                next.add(HashUtil.applySha256(left + right));
+            }
+            layer = next;
+        }
+        return layer.get(0);
+    }
+
+    private static List<String> transactions(int count) {
+        List<String> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add("vote:1|vote-" + i + "|voter-" + i + "|candidate-" + (i % 7) + "|election-1|1.0|");
+        }
+        return transactions;
+    }
+
+    @Test
+    public void testMatchesReferenceForEverySmallSize() {
+        for (int count = 1; count <= 70; count++) {
+            List<String> transactions = transactions(count);
+            String expected = referenceRoot(transactions);
+
+            assertEquals(expected, HashUtil.toHex(MerkleTree.root(transactions)), "inline, " + count + " leaves");
+            // A tiny threshold forces splitting, including lopsided right-edge subtrees
+            assertEquals(expected, HashUtil.toHex(MerkleTree.root(transactions, 2)), "split, " + count + " leaves");
+        }
+    }
+
+    @Test
+    public void testMatchesReferenceAroundTheParallelThreshold() {
+        int threshold = MerkleTree.SEQUENTIAL_THRESHOLD;
+        for (int count : new int[] {threshold - 1, threshold, threshold + 1, 2 * threshold + 3, 10_001}) {
+            List<String> transactions = transactions(count);
+
+            assertEquals(referenceRoot(transactions), HashUtil.toHex(MerkleTree.root(transactions)),
+                    count + " leaves");
+        }
+    }
+
+    @Test
+    public void testParallelAndSequentialBuildsAgree() {
+        List<String> transactions = transactions(20_000);
+
+        assertArrayEquals(MerkleTree.root(transactions, Integer.MAX_VALUE), MerkleTree.root(transactions, 64));
+    }
+
+    @Test
+    public void testEmptyAndNullHaveNoRoot() {
+        assertNull(MerkleTree.root(new ArrayList<>()));
+        assertNull(MerkleTree.root(null));
+        assertEquals("", HashUtil.getMerkleRoot(new ArrayList<>()));
+    }
+
+    @Test
+    public void testEveryLeafHasAProofToTheRoot() {
+        for (int count = 1; count <= 33; count++) {
+            List<String> transactions = transactions(count);
+            MerkleTree tree = MerkleTree.build(transactions);
+            String root = HashUtil.getMerkleRoot(transactions);
+
+            assertEquals(root, HashUtil.toHex(tree.getRoot()), count + " leaves");
+            for (int leaf = 0; leaf < count; leaf++) {
+                MerkleProof proof = tree.proof(leaf);
+
+                assertTrue(proof.verify(transactions.get(leaf), root), "leaf " + leaf + " of " + count);
+                assertEquals(leaf, proof.getLeafIndex());
+            }
+        }
+    }
+
+    @Test
+    public void testProofPathIsLogarithmic() {
+        MerkleTree tree = MerkleTree.build(transactions(10_000));
+
+        assertEquals(10_000, tree.getLeafCount());
+        assertEquals(14, tree.proof(9_999).getPath().size());
+    }
+
+    @Test
+    public void testProofRejectsTamperedInput() {
+        List<String> transactions = transactions(9);
+        String root = HashUtil.getMerkleRoot(transactions);
+        MerkleProof proof = MerkleTree.build(transactions).proof(4);
+
+        assertFalse(proof.verify(transactions.get(4) + "x", root));
+        assertFalse(proof.verify(transactions.get(5), root));
+        assertFalse(proof.verify(transactions.get(4), HashUtil.applySha256("other root")));
+
+        proof.getPath().get(1).setHash(HashUtil.applySha256("forged"));
+        assertFalse(proof.verify(transactions.get(4), root));
+    }
+
+    @Test
+    public void testProofOutOfRange() {
+        MerkleTree tree = MerkleTree.build(transactions(3));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.proof(3));
+        assertThrows(IllegalArgumentException.class, () -> MerkleTree.build(new ArrayList<>()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.votex.crypto;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PublicKeyCacheTest {
+
+    private static String firstKey;
+    private static String secondKey;
+
+    @BeforeAll
+    public static void generateKeys() throws Exception {
+        firstKey = RSAUtil.getPublicKeyString(RSAUtil.generateKeyPair().getPublic());
+        secondKey = RSAUtil.getPublicKeyString(RSAUtil.generateKeyPair().getPublic());
+    }
+
+    @Test
+    public void testReturnsCachedKeyOnRepeatLookup() throws Exception {
+        PublicKeyCache cache = new PublicKeyCache(10);
+
+        PublicKey first = cache.get("voter1", firstKey);
+        PublicKey again = cache.get("voter1", new String(firstKey)); // equal value, different instance
+
+        assertSame(first, again);
+        assertEquals(firstKey, RSAUtil.getPublicKeyString(first));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void testRotatedKeyIsReparsed() throws Exception {
+        PublicKeyCache cache = new PublicKeyCache(10);
+        cache.get("voter1", firstKey);
+
+        PublicKey rotated = cache.get("voter1", secondKey);
+
+        assertEquals(secondKey, RSAUtil.getPublicKeyString(rotated));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        PublicKeyCache cache = new PublicKeyCache(10);
+        PublicKey first = cache.get("voter1", firstKey);
+
+        cache.invalidate("voter1");
+
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.get("voter1", firstKey));
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() throws Exception {
+        PublicKeyCache cache = new PublicKeyCache(2);
+        cache.get("voter1", firstKey);
+        cache.get("voter2", secondKey);
+        cache.get("voter1", firstKey); // voter2 is now the eldest
+
+        cache.get("voter3", firstKey);
+
+        assertEquals(2, cache.size());
+        long misses = cache.getMisses();
+        cache.get("voter1", firstKey);
+        assertEquals(misses, cache.getMisses());
+        cache.get("voter2", secondKey);
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    @Test
+    public void testRejectsMalformedKey() {
+        PublicKeyCache cache = new PublicKeyCache(10);
+
+        assertThrows(Exception.class, () -> cache.get("voter1", "bm90IGEga2V5"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testSchemeChangeIsReparsed() throws Exception {
+        PublicKeyCache cache = new PublicKeyCache(10);
+        String ecKey = RSAUtil.getPublicKeyString(SignatureScheme.ECDSA_P256.generateKeyPair().getPublic());
+        cache.get("voter1", firstKey);
+
+        PublicKey rotated = cache.get("voter1", SignatureScheme.ECDSA_P256, ecKey);
+
+        assertEquals("EC", rotated.getAlgorithm());
+        assertEquals(2, cache.getMisses());
+    }
+}
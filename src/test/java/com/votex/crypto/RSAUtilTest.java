@@ -6,6 +6,11 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class RSAUtilTest {
 
@@ -83,4 +88,26 @@ public class RSAUtilTest {
             "Reconstructed private key should match original"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testConcurrentSignAndVerifyReuseThreadLocalInstances() throws Exception {
+        KeyPair keyPair = RSAUtil.generateKeyPair();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                String message = "vote-" + i;
+                results.add(executor.submit(() -> {
+                    String signature = RSAUtil.sign(message, keyPair.getPrivate());
+                    return RSAUtil.verify(message, signature, keyPair.getPublic())
+                            && !RSAUtil.verify(message + "x", signature, keyPair.getPublic());
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.votex.crypto;
+
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignatureSchemeTest {
+
+    @Test
+    public void testSignAndVerifyEachScheme() throws Exception {
+        for (SignatureScheme scheme : SignatureScheme.values()) {
+            KeyPair keyPair = scheme.generateKeyPair();
+            String message = "voter1:candidate1:election1";
+
+            String signature = scheme.sign(message, keyPair.getPrivate());
+
+            assertTrue(scheme.verify(message, signature, keyPair.getPublic()), scheme.name());
+            assertFalse(scheme.verify(message + "x", signature, keyPair.getPublic()), scheme.name());
+        }
+    }
+
+    @Test
+    public void testKeysRoundTripThroughBase64() throws Exception {
+        for (SignatureScheme scheme : SignatureScheme.values()) {
+            KeyPair keyPair = scheme.generateKeyPair();
+
+            PublicKey publicKey = scheme.decodePublicKey(RSAUtil.getPublicKeyString(keyPair.getPublic()));
+            String signature = scheme.sign("data", scheme.decodePrivateKey(RSAUtil.getPrivateKeyString(keyPair.getPrivate())));
+
+            assertEquals(keyPair.getPublic(), publicKey);
+            assertTrue(scheme.verify("data", signature, publicKey));
+        }
+    }
+
+    @Test
+    public void testEcdsaKeysAndSignaturesAreSmaller() throws Exception {
+        KeyPair rsa = SignatureScheme.RSA_2048.generateKeyPair();
+        KeyPair ec = SignatureScheme.ECDSA_P256.generateKeyPair();
+
+        int rsaSignature = Base64.getDecoder().decode(SignatureScheme.RSA_2048.sign("data", rsa.getPrivate())).length;
+        int ecSignature = Base64.getDecoder().decode(SignatureScheme.ECDSA_P256.sign("data", ec.getPrivate())).length;
+
+        assertEquals(256, rsaSignature);
+        assertTrue(ecSignature <= 72, "DER-encoded P-256 signature was " + ecSignature + " bytes");
+        assertEquals(91, ec.getPublic().getEncoded().length);
+        assertTrue(rsa.getPublic().getEncoded().length > 290);
+    }
+
+    @Test
+    public void testRejectsKeyFromOtherScheme() throws Exception {
+        String ecKey = RSAUtil.getPublicKeyString(SignatureScheme.ECDSA_P256.generateKeyPair().getPublic());
+
+        assertThrows(Exception.class, () -> SignatureScheme.RSA_2048.decodePublicKey(ecKey));
+    }
+}
@@ -0,0 +1,26 @@
+package com.votex.repository;
+
+import com.votex.model.Candidate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class CandidateRepositoryTest {
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Test
+    public void testAddVotesIncrementsInPlace() {
+        Candidate candidate = candidateRepository.save(new Candidate("Test Candidate", "Description", "election1"));
+
+        assertEquals(1, candidateRepository.addVotes(candidate.getId(), 5));
+        assertEquals(1, candidateRepository.addVotes(candidate.getId(), 2));
+
+        assertEquals(7, candidateRepository.findById(candidate.getId()).get().getVoteCount());
+        assertEquals(0, candidateRepository.addVotes("missing", 1));
+    }
+}
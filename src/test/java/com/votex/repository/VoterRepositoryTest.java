@@ -0,0 +1,29 @@
+package com.votex.repository;
+
+import com.votex.model.Voter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class VoterRepositoryTest {
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @Test
+    public void testMarkVotedSucceedsOnce() {
+        voterRepository.save(new Voter("voter1", "Test Voter", "voter@example.com"));
+
+        assertEquals(1, voterRepository.markVoted("voter1"));
+        assertEquals(0, voterRepository.markVoted("voter1"));
+        assertTrue(voterRepository.findById("voter1").get().isHasVoted());
+    }
+
+    @Test
+    public void testMarkVotedUnknownVoter() {
+        assertEquals(0, voterRepository.markVoted("nobody"));
+    }
+}
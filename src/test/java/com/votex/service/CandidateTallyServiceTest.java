@@ -0,0 +1,114 @@
+package com.votex.service;
+
+import com.votex.model.Candidate;
+import com.votex.repository.CandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class CandidateTallyServiceTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    private CandidateTallyService tallyService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // Not started, so only explicit flushes write
+        tallyService = new CandidateTallyService(candidateRepository, 60_000);
+    }
+
+    @Test
+    public void testFlushWritesOneDeltaPerCandidate() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            tallyService.increment("candidate1");
+        }
+        tallyService.increment("candidate2");
+
+        // Act
+        tallyService.flush();
+
+        // Assert
+        verify(candidateRepository).addVotes("candidate1", 5);
+        verify(candidateRepository).addVotes("candidate2", 1);
+        verify(candidateRepository, never()).save(any(Candidate.class));
+        assertEquals(0, tallyService.getPendingCount("candidate1"));
+
+        // Nothing new, nothing written
+        tallyService.flush();
+        verify(candidateRepository, times(2)).addVotes(anyString(), anyInt());
+    }
+
+    @Test
+    public void testVoteCountIncludesUnflushedVotes() {
+        // Arrange
+        Candidate candidate = new Candidate("Test Candidate", "Description", "election1");
+        candidate.setVoteCount(10);
+        when(candidateRepository.findById("candidate1")).thenReturn(Optional.of(candidate));
+
+        // Act
+        tallyService.increment("candidate1");
+        tallyService.increment("candidate1");
+
+        // Assert
+        assertEquals(12, tallyService.getVoteCount("candidate1"));
+        assertEquals(0, tallyService.getVoteCount("unknown"));
+    }
+
+    @Test
+    public void testFailedFlushKeepsDelta() {
+        // Arrange
+        tallyService.increment("candidate1");
+        when(candidateRepository.addVotes("candidate1", 1)).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> tallyService.flush());
+        assertEquals(1, tallyService.getPendingCount("candidate1"));
+    }
+
+    @Test
+    public void testConcurrentIncrementsAreNotLost() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act: increment from many threads while flushing
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    tallyService.increment("candidate1");
+                }
+            }));
+        }
+        for (int i = 0; i < 20; i++) {
+            tallyService.flush();
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        tallyService.flush();
+
+        // Assert: the flushed deltas add up to every increment
+        ArgumentCaptor<Integer> deltas = ArgumentCaptor.forClass(Integer.class);
+        verify(candidateRepository, atLeastOnce()).addVotes(eq("candidate1"), deltas.capture());
+        assertEquals(80_000, deltas.getAllValues().stream().mapToInt(Integer::intValue).sum());
+    }
+}
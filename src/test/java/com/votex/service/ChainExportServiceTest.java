@@ -0,0 +1,174 @@
+package com.votex.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.votex.blockchain.Block;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.VoteTransaction;
+import com.votex.blockchain.codec.BlockCodec;
+import com.votex.blockchain.store.FileBlockStore;
+import com.votex.model.BlockPage;
+import com.votex.model.Vote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChainExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private Blockchain blockchain;
+    private ChainExportService exportService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+        exportService = new ChainExportService(blockchain, objectMapper, 3);
+    }
+
+    private String vote(String id) {
+        Vote vote = new Vote("voter-" + id, "candidate1", "election1");
+        vote.setId(id);
+        return VoteTransaction.encode(vote);
+    }
+
+    private void addBlocks(int count) {
+        for (int i = 0; i < count; i++) {
+            blockchain.addBlock(Arrays.asList(vote("v" + i), vote("w" + i)));
+        }
+    }
+
+    @Test
+    public void testPagesFollowNextFromToTheTip() {
+        // Arrange: genesis plus 4 blocks
+        addBlocks(4);
+
+        // Act
+        BlockPage first = exportService.getPage(0, 2);
+        BlockPage capped = exportService.getPage(first.getNextFrom(), 100);
+        BlockPage past = exportService.getPage(9, 2);
+
+        // Assert
+        assertEquals(5, first.getHeight());
+        assertEquals(2, first.getBlocks().size());
+        assertEquals(1, first.getBlocks().get(1).getIndex());
+        assertEquals(2, first.getNextFrom());
+        assertEquals(3, capped.getBlocks().size()); // limited to the maximum page size
+        assertNull(capped.getNextFrom());
+        assertTrue(past.getBlocks().isEmpty());
+        assertNull(past.getNextFrom());
+    }
+
+    @Test
+    public void testRejectsBadPageArguments() {
+        assertThrows(IllegalArgumentException.class, () -> exportService.getPage(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> exportService.getPage(0, 0));
+    }
+
+    @Test
+    public void testNdjsonHasOneBlockPerLine() throws Exception {
+        // Arrange
+        addBlocks(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.writeNdjson(1, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode block = objectMapper.readTree(lines[i]);
+            Block expected = blockchain.getChain().get(i + 1);
+            assertEquals(expected.getIndex(), block.get("index").asInt());
+            assertEquals(expected.getHash(), block.get("hash").asText());
+            assertEquals(2, block.get("transactions").size());
+            assertFalse(block.has("votes"));
+        }
+    }
+
+    @Test
+    public void testBinaryExportCopiesStoredEncodings() throws Exception {
+        // Arrange: a file-backed chain, so records come straight from the segment maps
+        blockchain = new Blockchain(1, 1, new FileBlockStore(directory, 1 << 20), new SimpleMeterRegistry());
+        exportService = new ChainExportService(blockchain, objectMapper, 3);
+        addBlocks(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.writeBinary(0, out);
+
+        // Assert
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        byte[] magic = new byte[4];
+        in.readFully(magic);
+        assertArrayEquals(ChainExportService.BINARY_MAGIC, magic);
+        assertEquals(ChainExportService.BINARY_VERSION, in.readInt());
+        for (Block expected : blockchain.getChain()) {
+            byte[] record = new byte[in.readInt()];
+            in.readFully(record);
+            Block block = BlockCodec.decode(record);
+            assertEquals(expected.getHash(), block.getHash());
+            assertEquals(expected.getTransactions(), block.getTransactions());
+        }
+        assertEquals(-1, in.read());
+        blockchain.getStore().close();
+    }
+
+    @Test
+    public void testWritesEveryVoteAsOneJsonArray() throws Exception {
+        // Arrange
+        addBlocks(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.writeVotes(out);
+
+        // Assert
+        JsonNode votes = objectMapper.readTree(out.toByteArray());
+        assertEquals(4, votes.size());
+        assertEquals("v0", votes.get(0).get("id").asText());
+        assertEquals("w1", votes.get(3).get("id").asText());
+    }
+
+    @Test
+    public void testEmptyVoteArray() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeVotes(out);
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testVotesSerializeLikeTheMvcConverters() throws Exception {
+        // Arrange
+        Vote vote = new Vote("voter1", "candidate1", "election1");
+        vote.setId("v1");
+        vote.setTimestamp(LocalDateTime.of(2024, 5, 1, 12, 30, 15));
+        blockchain.addBlock(Arrays.asList(VoteTransaction.encode(vote)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        new ChainExportService(blockchain, 3).writeVotes(out);
+
+        // Assert
+        String expected = Jackson2ObjectMapperBuilder.json().build().writeValueAsString(vote.getTimestamp());
+        JsonNode votes = objectMapper.readTree(out.toByteArray());
+        assertEquals(expected, votes.get(0).get("timestamp").toString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.votex.service;
+
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockAssembler;
+import com.votex.blockchain.BlockIndex;
+import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.VotePool;
+import com.votex.model.Vote;
+import com.votex.model.VoteProof;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VoteProofServiceTest {
+
+    private Blockchain blockchain;
+    private VotePool votePool;
+    private BlockAssembler assembler;
+    private VoteProofService proofService;
+
+    @BeforeEach
+    public void setUp() {
+        blockchain = new Blockchain(1); // Use lower difficulty for faster tests
+        votePool = new VotePool();
+        assembler = new BlockAssembler(blockchain, votePool, 10, 50);
+        proofService = new VoteProofService(new BlockIndex(blockchain), 4);
+    }
+
+    private void submit(String id) {
+        Vote vote = new Vote("voter-" + id, "candidate1", "election1");
+        vote.setId(id);
+        vote.setSignature("sig-" + id);
+        votePool.submit(vote);
+    }
+
+    @Test
+    public void testProofForSealedVote() throws Exception {
+        // Arrange
+        for (int i = 0; i < 7; i++) {
+            submit("v" + i);
+        }
+        Block block = assembler.sealNextBatch(0);
+
+        // Act
+        Optional<VoteProof> result = proofService.getProof("v5");
+
+        // Assert
+        assertTrue(result.isPresent());
+        VoteProof proof = result.get();
+        assertEquals("v5", proof.getVoteId());
+        assertEquals(block.getIndex(), proof.getBlockIndex());
+        assertEquals(block.getHash(), proof.getBlockHash());
+        assertEquals(block.getMerkleRoot(), proof.getMerkleRoot());
+        assertEquals(5, proof.getProof().getLeafIndex());
+        assertEquals(3, proof.getProof().getPath().size());
+        assertTrue(proof.getProof().verify(proof.getTransaction(), proof.getMerkleRoot()));
+
+        // The header in the proof hashes to the block's hash
+        Block header = new Block(proof.getBlockIndex(), proof.getTimestamp(), null,
+                proof.getPreviousHash(), proof.getMerkleRoot(), proof.getNonce());
+        assertEquals(proof.getBlockHash(), header.getHash());
+    }
+
+    @Test
+    public void testNoProofBeforeSealingOrForUnknownVote() {
+        submit("pending");
+
+        assertFalse(proofService.getProof("pending").isPresent());
+        assertFalse(proofService.getProof("missing").isPresent());
+    }
+
+    @Test
+    public void testFindsVoteAfterRestart() throws Exception {
+        // Arrange: votes sealed in two blocks, then the index is rebuilt as on a restart
+        submit("a1");
+        submit("a2");
+        assembler.sealNextBatch(0);
+        submit("b1");
+        Block second = assembler.sealNextBatch(0);
+        VoteProofService restarted = new VoteProofService(new BlockIndex(blockchain), 4);
+
+        // Act
+        Optional<VoteProof> result = restarted.getProof("a2");
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(second.getIndex() - 1, result.get().getBlockIndex());
+        assertTrue(result.get().getProof().verify(result.get().getTransaction(), result.get().getMerkleRoot()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.votex.service;
+
+import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class VoteSubmissionPipelineTest {
+
+    @Mock
+    private VotingService votingService;
+
+    private VoteSubmissionPipeline pipeline;
+    private CountDownLatch release;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        pipeline = new VoteSubmissionPipeline(votingService, 1, 1);
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        release.countDown();
+        pipeline.shutdown();
+    }
+
+    private Vote voteFrom(String voterId) {
+        Vote vote = new Vote(voterId, "candidate1", "election1");
+        vote.setId("vote-" + voterId);
+        return vote;
+    }
+
+    private void blockWorker() throws Exception {
+        when(votingService.castVote(any(Vote.class))).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            Vote vote = invocation.getArgument(0);
+            return VoteReceipt.pending(vote.getId());
+        });
+    }
+
+    @Test
+    public void testSubmitCompletesWithReceipt() throws Exception {
+        // Arrange
+        when(votingService.castVote(any(Vote.class))).thenReturn(VoteReceipt.pending("vote-voter1"));
+
+        // Act
+        VoteReceipt receipt = pipeline.submit(voteFrom("voter1")).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals("vote-voter1", receipt.getVoteId());
+        assertEquals(VoteReceipt.Status.PENDING, receipt.getStatus());
+    }
+
+    @Test
+    public void testSubmitPropagatesRejection() throws Exception {
+        // Arrange
+        when(votingService.castVote(any(Vote.class))).thenThrow(new IllegalStateException("Voter is not verified"));
+
+        // Act
+        CompletableFuture<VoteReceipt> result = pipeline.submit(voteFrom("voter1"));
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+        assertEquals("Voter is not verified", e.getCause().getMessage());
+    }
+
+    @Test
+    public void testDuplicateInFlightVoterIsRejected() throws Exception {
+        // Arrange
+        blockWorker();
+        CompletableFuture<VoteReceipt> first = pipeline.submit(voteFrom("voter1"));
+
+        // Act
+        CompletableFuture<VoteReceipt> second = pipeline.submit(voteFrom("voter1"));
+
+        // Assert
+        ExecutionException e = assertThrows(ExecutionException.class, () -> second.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        release.countDown();
+        assertNotNull(first.get(10, TimeUnit.SECONDS));
+        verify(votingService, times(1)).castVote(any(Vote.class));
+    }
+
+    @Test
+    public void testFullQueueIsRefused() throws Exception {
+        // Arrange: one ballot on the worker, one waiting in the single queue slot
+        blockWorker();
+        CompletableFuture<VoteReceipt> running = pipeline.submit(voteFrom("voter1"));
+        CompletableFuture<VoteReceipt> queued = pipeline.submit(voteFrom("voter2"));
+
+        // Act & Assert
+        assertThrows(VoteSubmissionPipeline.QueueFullException.class, () -> pipeline.submit(voteFrom("voter3")));
+        release.countDown();
+        assertNotNull(running.get(10, TimeUnit.SECONDS));
+        assertNotNull(queued.get(10, TimeUnit.SECONDS));
+
+        // The refused voter may try again once there is room
+        assertNotNull(pipeline.submit(voteFrom("voter3")).get(10, TimeUnit.SECONDS));
+    }
+}
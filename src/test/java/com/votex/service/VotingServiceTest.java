@@ -1,19 +1,31 @@
 package com.votex.service;
 
+import com.votex.blockchain.Block;
+import com.votex.blockchain.BlockIndex;
 import com.votex.blockchain.Blockchain;
+import com.votex.blockchain.ChainAuditResult;
+import com.votex.blockchain.TallyIndex;
+import com.votex.blockchain.VotePool;
+import com.votex.blockchain.VotedVoterIndex;
+import com.votex.crypto.BatchSignatureVerifier;
+import com.votex.crypto.PublicKeyCache;
 import com.votex.crypto.RSAUtil;
+import com.votex.crypto.SignatureScheme;
 import com.votex.model.Candidate;
 import com.votex.model.Election;
 import com.votex.model.Vote;
+import com.votex.model.VoteReceipt;
 import com.votex.model.Voter;
 import com.votex.repository.CandidateRepository;
 import com.votex.repository.ElectionRepository;
 import com.votex.repository.VoterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.security.KeyPair;
 import java.time.LocalDateTime;
@@ -40,6 +52,30 @@ public class VotingServiceTest {
     @Mock
     private Blockchain blockchain;
 
+    @Mock
+    private VotePool votePool;
+
+    @Mock
+    private TallyIndex tallyIndex;
+
+    @Mock
+    private BlockIndex blockIndex;
+
+    @Mock
+    private VotedVoterIndex votedVoters;
+
+    @Mock
+    private CandidateTallyService candidateTally;
+
+    @Spy
+    private PublicKeyCache publicKeyCache = new PublicKeyCache(100);
+
+    @Spy
+    private BatchSignatureVerifier signatureVerifier = new BatchSignatureVerifier(2);
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private VotingService votingService;
 
@@ -79,28 +115,161 @@ public class VotingServiceTest {
 
         // Setup mocks
         when(voterRepository.findById("voter1")).thenReturn(Optional.of(voter));
+        when(voterRepository.markVoted("voter1")).thenReturn(1);
         when(candidateRepository.findById("candidate1")).thenReturn(Optional.of(candidate));
+        when(candidateRepository.existsById("candidate1")).thenReturn(true);
         when(electionRepository.findById("election1")).thenReturn(Optional.of(election));
+        when(votePool.submit(any(Vote.class)))
+                .thenAnswer(invocation -> VoteReceipt.pending(invocation.<Vote>getArgument(0).getId()));
     }
 
     @Test
     public void testCastVote_SuccessfulVote() throws Exception {
         // Act
-        Vote result = votingService.castVote(vote);
+        VoteReceipt result = votingService.castVote(vote);
 
         // Assert
         assertNotNull(result);
+        assertNotNull(vote.getId(), "Vote should be assigned an id");
+        assertEquals(vote.getId(), result.getVoteId());
+        assertEquals(VoteReceipt.Status.PENDING, result.getStatus());
         verify(voterRepository).findById("voter1");
-        verify(candidateRepository).findById("candidate1");
-        verify(voterRepository).save(any(Voter.class));
-        verify(candidateRepository).save(any(Candidate.class));
-        verify(blockchain).addBlock(anyList());
+        verify(voterRepository).markVoted("voter1");
+        verify(voterRepository, never()).save(any(Voter.class));
+        verify(candidateTally).increment("candidate1");
+        verify(candidateRepository, never()).save(any(Candidate.class));
+        verify(votePool).submit(vote);
 
         // Verify voter is marked as having voted
         assertTrue(voter.isHasVoted());
-        
-        // Verify candidate vote count is increased
-        assertEquals(1, candidate.getVoteCount());
+
+    }
+
+    @Test
+    public void testCastVote_UnknownCandidateNotTallied() throws Exception {
+        // Arrange
+        Vote ballot = new Vote("voter1", "no-such-candidate", "election1");
+        ballot.setTimestamp(LocalDateTime.now());
+        ballot.setSignature(RSAUtil.sign(ballot.toString(), keyPair.getPrivate()));
+
+        // Act
+        VoteReceipt result = votingService.castVote(ballot);
+
+        // Assert
+        assertEquals(VoteReceipt.Status.PENDING, result.getStatus());
+        verify(candidateRepository).existsById("no-such-candidate");
+        verify(candidateTally, never()).increment(any());
+    }
+
+    @Test
+    public void testCastVote_ReplacesClientSuppliedId() throws Exception {
+        // Arrange: the ballot claims an ID that belongs to someone else's vote
+        vote.setId("someone-elses-vote");
+
+        // Act
+        VoteReceipt result = votingService.castVote(vote);
+
+        // Assert
+        assertNotEquals("someone-elses-vote", result.getVoteId());
+        assertEquals(vote.getId(), result.getVoteId());
+    }
+
+    @Test
+    public void testGetReceipt_PendingFromPoolThenConfirmedFromChain() {
+        // Arrange
+        Block block = new Block(3, 1000L, Arrays.asList("tx"), "prev", "root", 0);
+        when(votePool.getReceipt("pending")).thenReturn(Optional.of(VoteReceipt.pending("pending")));
+        when(votePool.getReceipt("sealed")).thenReturn(Optional.empty());
+        when(blockIndex.findVote("sealed")).thenReturn(Optional.of(new BlockIndex.VoteLocation(3, 0)));
+        when(blockIndex.getBlock(3)).thenReturn(Optional.of(block));
+
+        // Act
+        VoteReceipt pending = votingService.getReceipt("pending").orElseThrow();
+        VoteReceipt sealed = votingService.getReceipt("sealed").orElseThrow();
+
+        // Assert
+        assertEquals(VoteReceipt.Status.PENDING, pending.getStatus());
+        assertEquals(VoteReceipt.Status.CONFIRMED, sealed.getStatus());
+        assertEquals(3, sealed.getBlockIndex());
+        assertEquals(block.getHash(), sealed.getBlockHash());
+        assertFalse(votingService.getReceipt("missing").isPresent());
+    }
+
+    @Test
+    public void testCastVote_LosesRaceToConcurrentBallot() {
+        // Arrange: the voter looked eligible, but another ballot claimed the vote first
+        when(voterRepository.markVoted("voter1")).thenReturn(0);
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () -> votingService.castVote(vote));
+        assertEquals("Voter is not eligible to vote", exception.getMessage());
+        verify(candidateTally, never()).increment(any());
+        verify(votePool, never()).submit(any(Vote.class));
+    }
+
+    @Test
+    public void testCastVote_EcdsaVoter() throws Exception {
+        // Arrange: the voter registered a P-256 key instead of RSA
+        KeyPair ecKeyPair = SignatureScheme.ECDSA_P256.generateKeyPair();
+        voter.setSignatureScheme(SignatureScheme.ECDSA_P256);
+        voter.setPublicKey(RSAUtil.getPublicKeyString(ecKeyPair.getPublic()));
+        vote.setSignature(SignatureScheme.ECDSA_P256.sign(vote.toString(), ecKeyPair.getPrivate()));
+
+        // Act
+        VoteReceipt result = votingService.castVote(vote);
+
+        // Assert
+        assertEquals(VoteReceipt.Status.PENDING, result.getStatus());
+        assertTrue(voter.isHasVoted());
+    }
+
+    @Test
+    public void testCastVote_SchemeMismatchRejected() throws Exception {
+        // Arrange: an RSA-signed ballot can't pass for a voter tagged as ECDSA
+        voter.setSignatureScheme(SignatureScheme.ECDSA_P256);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> votingService.castVote(vote));
+        verify(voterRepository, never()).save(any(Voter.class));
+    }
+
+    @Test
+    public void testCastVotes_MixedBatch() throws Exception {
+        // Arrange: a second verified voter whose ballot is signed with the wrong key
+        Voter voter2 = new Voter("voter2", "Second Voter", "voter2@example.com");
+        voter2.setVerified(true);
+        voter2.setPublicKey(RSAUtil.getPublicKeyString(RSAUtil.generateKeyPair().getPublic()));
+        when(voterRepository.findById("voter2")).thenReturn(Optional.of(voter2));
+        Vote forged = new Vote("voter2", "candidate1", "election1");
+        forged.setSignature(RSAUtil.sign(forged.toString(), keyPair.getPrivate()));
+
+        Vote duplicate = new Vote("voter1", "candidate1", "election1");
+        duplicate.setSignature(RSAUtil.sign(duplicate.toString(), keyPair.getPrivate()));
+
+        Vote unknown = new Vote("voter3", "candidate1", "election1");
+        unknown.setId("unknown-vote");
+        when(voterRepository.findById("voter3")).thenReturn(Optional.empty());
+
+        // Act
+        List<VoteReceipt> receipts = votingService.castVotes(Arrays.asList(vote, forged, duplicate, unknown));
+
+        // Assert
+        assertEquals(4, receipts.size());
+        assertEquals(VoteReceipt.Status.PENDING, receipts.get(0).getStatus());
+        assertEquals(vote.getId(), receipts.get(0).getVoteId());
+        assertEquals(VoteReceipt.Status.REJECTED, receipts.get(1).getStatus());
+        assertEquals("Invalid vote signature", receipts.get(1).getReason());
+        assertEquals(VoteReceipt.Status.REJECTED, receipts.get(2).getStatus());
+        assertEquals(VoteReceipt.Status.REJECTED, receipts.get(3).getStatus());
+        assertEquals("unknown-vote", receipts.get(3).getVoteId());
+        assertEquals("Voter is not eligible to vote", receipts.get(3).getReason());
+
+        verify(votePool, times(1)).submit(any(Vote.class));
+        assertTrue(voter.isHasVoted());
+        assertFalse(voter2.isHasVoted());
+        verify(candidateTally, times(1)).increment("candidate1");
+        assertEquals(1.0, meterRegistry.get("votex.votes.accepted").counter().count());
+        assertEquals(3.0, meterRegistry.get("votex.votes.rejected").counter().count());
     }
 
     @Test
@@ -115,9 +284,24 @@ public class VotingServiceTest {
 
         assertEquals("Voter is not eligible to vote", exception.getMessage());
         verify(voterRepository).findById("voter1");
-        verify(voterRepository, never()).save(any(Voter.class));
-        verify(candidateRepository, never()).save(any(Candidate.class));
-        verify(blockchain, never()).addBlock(anyList());
+        verify(voterRepository, never()).markVoted(any());
+        verify(candidateTally, never()).increment(any());
+        verify(votePool, never()).submit(any(Vote.class));
+    }
+
+    @Test
+    public void testCastVote_VoterAlreadyOnChain() {
+        // Arrange: the database lost the flag, but the chain holds the voter's ballot
+        when(votedVoters.hasVoted("voter1")).thenReturn(true);
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () -> {
+            votingService.castVote(vote);
+        });
+
+        assertEquals("Voter is not eligible to vote", exception.getMessage());
+        verify(voterRepository, never()).markVoted(any());
+        verify(votePool, never()).submit(any(Vote.class));
     }
 
     @Test
@@ -132,9 +316,9 @@ public class VotingServiceTest {
 
         assertEquals("Voter is not verified", exception.getMessage());
         verify(voterRepository).findById("voter1");
-        verify(voterRepository, never()).save(any(Voter.class));
-        verify(candidateRepository, never()).save(any(Candidate.class));
-        verify(blockchain, never()).addBlock(anyList());
+        verify(voterRepository, never()).markVoted(any());
+        verify(candidateTally, never()).increment(any());
+        verify(votePool, never()).submit(any(Vote.class));
     }
 
     @Test
@@ -150,9 +334,10 @@ public class VotingServiceTest {
 
         assertTrue(exception.getMessage().contains("Invalid vote signature"));
         verify(voterRepository).findById("voter1");
-        verify(voterRepository, never()).save(any(Voter.class));
-        verify(candidateRepository, never()).save(any(Candidate.class));
-        verify(blockchain, never()).addBlock(anyList());
+        verify(voterRepository, never()).markVoted(any());
+        verify(candidateTally, never()).increment(any());
+        verify(votePool, never()).submit(any(Vote.class));
+        assertEquals(1.0, meterRegistry.get("votex.votes.rejected").counter().count());
     }
 
     @Test
@@ -181,16 +366,42 @@ public class VotingServiceTest {
         assertTrue(result.containsAll(expectedVotes));
     }
 
+    @Test
+    public void testGetVoteCountForCandidate() {
+        // Arrange
+        when(tallyIndex.getCount("candidate1")).thenReturn(2L);
+
+        // Act & Assert
+        assertEquals(2, votingService.getVoteCountForCandidate("candidate1"));
+        assertEquals(0, votingService.getVoteCountForCandidate("nobody"));
+        verify(blockchain, never()).streamVotes();
+    }
+
     @Test
     public void testIsBlockchainValid() {
         // Arrange
-        when(blockchain.isChainValid()).thenReturn(true);
+        when(blockchain.verifyNewBlocks()).thenReturn(true);
 
         // Act
         boolean result = votingService.isBlockchainValid();
 
         // Assert
         assertTrue(result);
-        verify(blockchain).isChainValid();
+        verify(blockchain).verifyNewBlocks();
+        verify(blockchain, never()).isChainValid();
+    }
+
+    @Test
+    public void testAuditBlockchain() {
+        // Arrange
+        when(blockchain.auditChain()).thenReturn(new ChainAuditResult(3, 10, 5));
+
+        // Act
+        ChainAuditResult result = votingService.auditBlockchain();
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(3, result.getFirstInvalidIndex());
+        verify(blockchain).auditChain();
     }
 }
\ No newline at end of file